@@ -1,22 +1,90 @@
 package backend.academy;
 
+import backend.academy.hangman.BinaryDictionaryCompiler;
+import backend.academy.hangman.BinaryDictionaryReader;
 import backend.academy.hangman.CSVDictionaryReader;
 import backend.academy.hangman.ConsoleView;
 import backend.academy.hangman.Controller;
+import backend.academy.hangman.Dictionary;
 import backend.academy.hangman.DictionaryReader;
 import backend.academy.hangman.Game;
+import backend.academy.hangman.GameServer;
 import backend.academy.hangman.Hangman;
+import backend.academy.hangman.MultiFileDictionaryReader;
+import backend.academy.hangman.StreamingDictionaryReader;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import lombok.experimental.UtilityClass;
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
 @UtilityClass
 public class Main {
+    private static final String SERVER_MODE = "--server";
+    private static final String COMPILE_MODE = "--compile";
+    private static final Path DICTIONARY_PATH = Path.of("src/main/resources/dictionary.csv");
+    private static final Path BINARY_DICTIONARY_PATH = Path.of("src/main/resources/dictionary.bin");
+    // A dictionary file, directory or glob to read instead of the bundled dictionary
+    private static final String DICTIONARIES_PROPERTY = "hangman.dictionaries";
+
     public static void main(String[] args) throws IOException {
+        if (args.length == 2 && COMPILE_MODE.equals(args[0])) {
+            BinaryDictionaryCompiler.compile(readCSVDictionary(), Path.of(args[1]));
+            log.info("Compiled {} to {}", System.getProperty(DICTIONARIES_PROPERTY, DICTIONARY_PATH.toString()),
+                args[1]);
+            return;
+        }
+        if (args.length == 2 && SERVER_MODE.equals(args[0])) {
+            // The loaded reader is never read into again, so all sessions share it as it is: a DictionarySnapshot
+            // would copy every word onto the heap
+            Dictionary dictionary = readDictionary(false);
+            try (GameServer server = new GameServer(Integer.parseInt(args[1]), dictionary)) {
+                log.info("Listening on port {}", server.getPort());
+                server.run();
+            }
+        } else {
+            Controller game = new Game(new Hangman(), new ConsoleView(), readDictionary(true));
+            game.run();
+        }
+    }
+
+    // Dictionaries given by the property are read as they are. Otherwise the compiled dictionary is used unless
+    // it is missing or older than the CSV one.
+    // A streamed CSV dictionary is still loading when returned, so the game can start right away
+    private static DictionaryReader readDictionary(boolean streaming) throws IOException {
+        if (System.getProperty(DICTIONARIES_PROPERTY) != null) {
+            return readCSVDictionary();
+        }
+        if (Files.exists(BINARY_DICTIONARY_PATH) && Files.getLastModifiedTime(BINARY_DICTIONARY_PATH)
+            .compareTo(Files.getLastModifiedTime(DICTIONARY_PATH)) >= 0) {
+            DictionaryReader dictionaryReader = new BinaryDictionaryReader();
+            dictionaryReader.readFromFile(BINARY_DICTIONARY_PATH.toString());
+            return dictionaryReader;
+        }
+        if (streaming) {
+            StreamingDictionaryReader dictionaryReader =
+                new StreamingDictionaryReader(CSVDictionaryReader.VERTICAL_BAR);
+            // The game keeps playing with the words parsed before a failure
+            dictionaryReader.loadAsync(DICTIONARY_PATH.toString()).whenComplete((ignored, e) -> {
+                if (e != null) {
+                    log.error("Failed to load dictionary {}", DICTIONARY_PATH, e);
+                }
+            });
+            return dictionaryReader;
+        }
+        return readCSVDictionary();
+    }
+
+    private static DictionaryReader readCSVDictionary() throws IOException {
+        String dictionaries = System.getProperty(DICTIONARIES_PROPERTY);
+        if (dictionaries != null) {
+            DictionaryReader dictionaryReader = new MultiFileDictionaryReader(CSVDictionaryReader.VERTICAL_BAR);
+            dictionaryReader.readFromFile(dictionaries);
+            return dictionaryReader;
+        }
         DictionaryReader dictionaryReader = new CSVDictionaryReader(CSVDictionaryReader.VERTICAL_BAR);
-        dictionaryReader.readFromFile("src/main/resources/dictionary.csv");
-        Controller game = new Game(new Hangman(), new ConsoleView(), dictionaryReader);
-        game.run();
+        dictionaryReader.readFromFile(DICTIONARY_PATH.toString());
+        return dictionaryReader;
     }
 }
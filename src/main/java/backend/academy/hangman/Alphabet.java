@@ -0,0 +1,36 @@
+package backend.academy.hangman;
+
+import lombok.experimental.UtilityClass;
+
+// Maps the 33 upper-case Cyrillic letters to bit indices: 'А'..'Я' -> 0..31, 'Ё' -> 32
+@UtilityClass
+public class Alphabet {
+    public static final char FIRST_LETTER = 'А';
+    public static final char LAST_LETTER = 'Я';
+    public static final char YO_LETTER = 'Ё';
+    public static final int YO_INDEX = LAST_LETTER - FIRST_LETTER + 1;
+
+    public static final long FULL_MASK = (1L << Constants.ALPHABET_SIZE) - 1;
+
+    public static int indexOf(char upperCaseLetter) {
+        if (FIRST_LETTER <= upperCaseLetter && upperCaseLetter <= LAST_LETTER) {
+            return upperCaseLetter - FIRST_LETTER;
+        }
+        return upperCaseLetter == YO_LETTER ? YO_INDEX : -1;
+    }
+
+    public static char letterAt(int index) {
+        return index == YO_INDEX ? YO_LETTER : (char) (FIRST_LETTER + index);
+    }
+
+    public static long maskOf(CharSequence word) {
+        long mask = 0L;
+        for (int i = 0; i < word.length(); ++i) {
+            int index = indexOf(Character.toUpperCase(word.charAt(i)));
+            if (index >= 0) {
+                mask |= 1L << index;
+            }
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,112 @@
+package backend.academy.hangman;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.experimental.UtilityClass;
+
+// Compiles a loaded dictionary into the file read by BinaryDictionaryReader (all numbers little-endian):
+//   header: magic (long) | version | categories count | words count | reserved (ints) | arena offset (long)
+//   category: name offset | name length | first word | words count (ints)
+//   word: word offset | word length | hint offset | hint length (ints)
+//   arena: UTF-8 bytes of all strings; offsets above are relative to its start
+// Words are stored grouped by category in category order, so a category is a range of the word table.
+@UtilityClass
+@SuppressWarnings("MagicNumber")
+public class BinaryDictionaryCompiler {
+    static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    static final long MAGIC = 0x54434944474E4148L;  // "HANGDICT"
+    static final int VERSION = 1;
+    static final long HEADER_SIZE = 2 * Long.BYTES + 4 * Integer.BYTES;
+    static final long CATEGORY_SIZE = 4 * Integer.BYTES;
+    static final long WORD_SIZE = 4 * Integer.BYTES;
+    static final long VERSION_OFFSET = Long.BYTES;
+    static final long CATEGORIES_COUNT_OFFSET = VERSION_OFFSET + Integer.BYTES;
+    static final long WORDS_COUNT_OFFSET = CATEGORIES_COUNT_OFFSET + Integer.BYTES;
+    static final long ARENA_OFFSET_OFFSET = WORDS_COUNT_OFFSET + 2 * Integer.BYTES;
+
+    // Written aside and moved into place, so a reader mapping the same path keeps its old file
+    public static void compile(Dictionary source, Path target) throws IOException {
+        List<String> categories = source.getCategories();
+        List<byte[]> strings = new ArrayList<>();
+        long arenaSize = 0;
+        int wordsCount = 0;
+        for (String category : categories) {
+            arenaSize += add(strings, category);
+            for (DictionaryWord word : source.getWordsInCategory(category)) {
+                arenaSize += add(strings, word.word());
+                arenaSize += add(strings, word.hint());
+                wordsCount++;
+            }
+        }
+        if (arenaSize > Integer.MAX_VALUE) {
+            throw new IOException("Dictionary is too large: " + arenaSize + " bytes of strings");
+        }
+        long arenaOffset = HEADER_SIZE + categories.size() * CATEGORY_SIZE + wordsCount * WORD_SIZE;
+
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (Arena arena = Arena.ofConfined();
+             FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                 StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MemorySegment segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, arenaOffset + arenaSize, arena);
+            segment.set(LONG, 0, MAGIC);
+            segment.set(INT, VERSION_OFFSET, VERSION);
+            segment.set(INT, CATEGORIES_COUNT_OFFSET, categories.size());
+            segment.set(INT, WORDS_COUNT_OFFSET, wordsCount);
+            segment.set(LONG, ARENA_OFFSET_OFFSET, arenaOffset);
+
+            long categoryOffset = HEADER_SIZE;
+            long wordOffset = HEADER_SIZE + categories.size() * CATEGORY_SIZE;
+            int stringOffset = 0;
+            int stringIndex = 0;
+            int firstWord = 0;
+            for (String category : categories) {
+                byte[] name = strings.get(stringIndex++);
+                int categoryWordsCount = source.getWordsInCategory(category).size();
+                putEntry(segment, categoryOffset, stringOffset, name.length, firstWord, categoryWordsCount);
+                stringOffset = putString(segment, arenaOffset, stringOffset, name);
+                for (int i = 0; i < categoryWordsCount; ++i) {
+                    byte[] word = strings.get(stringIndex++);
+                    byte[] hint = strings.get(stringIndex++);
+                    putEntry(segment, wordOffset, stringOffset, word.length, stringOffset + word.length, hint.length);
+                    stringOffset = putString(segment, arenaOffset, stringOffset, word);
+                    stringOffset = putString(segment, arenaOffset, stringOffset, hint);
+                    wordOffset += WORD_SIZE;
+                }
+                categoryOffset += CATEGORY_SIZE;
+                firstWord += categoryWordsCount;
+            }
+            segment.force();
+        }
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static int add(List<byte[]> strings, String string) {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        strings.add(bytes);
+        return bytes.length;
+    }
+
+    private static void putEntry(MemorySegment segment, long offset, int first, int second, int third, int fourth) {
+        segment.set(INT, offset, first);
+        segment.set(INT, offset + Integer.BYTES, second);
+        segment.set(INT, offset + 2 * Integer.BYTES, third);
+        segment.set(INT, offset + 3 * Integer.BYTES, fourth);
+    }
+
+    private static int putString(MemorySegment segment, long arenaOffset, int stringOffset, byte[] bytes) {
+        MemorySegment.copy(bytes, 0, segment, ValueLayout.JAVA_BYTE, arenaOffset + stringOffset, bytes.length);
+        return stringOffset + bytes.length;
+    }
+}
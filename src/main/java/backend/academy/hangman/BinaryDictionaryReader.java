@@ -0,0 +1,193 @@
+package backend.academy.hangman;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.log4j.Log4j2;
+import static backend.academy.hangman.BinaryDictionaryCompiler.CATEGORY_SIZE;
+import static backend.academy.hangman.BinaryDictionaryCompiler.HEADER_SIZE;
+import static backend.academy.hangman.BinaryDictionaryCompiler.INT;
+import static backend.academy.hangman.BinaryDictionaryCompiler.LONG;
+import static backend.academy.hangman.BinaryDictionaryCompiler.WORD_SIZE;
+
+// DictionaryReader over a file written by BinaryDictionaryCompiler.
+// Opening maps the file and decodes only the category names; words are decoded from the mapping on request,
+// so startup does not depend on the number of words. Holds one dictionary: a second read is rejected.
+@Log4j2
+@SuppressWarnings("MagicNumber")
+public class BinaryDictionaryReader implements DictionaryReader, AutoCloseable {
+    private final Arena arena;
+    private final WordSelector wordSelector;
+    private MemorySegment segment;
+    private long arenaOffset;
+    private List<String> categories;
+    private Map<String, Integer> categoryIndices;
+    private DifficultyIndex difficultyIndex;  // built on the first request, as the dictionary never changes
+
+    public BinaryDictionaryReader() {
+        this(new ThreadLocalWordSelector());
+    }
+
+    public BinaryDictionaryReader(WordSelector wordSelector) {
+        this.arena = Arena.ofShared();
+        this.wordSelector = wordSelector;
+        this.categories = List.of();
+        this.categoryIndices = Map.of();
+    }
+
+    @Override
+    public void readFromFile(String path) throws IOException {
+        checkNotRead();
+        MemorySegment mapped;
+        try (FileChannel channel = FileChannel.open(Path.of(path), StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+        }
+        if (!open(mapped)) {
+            throw new IOException("Not a binary dictionary: " + path);
+        }
+        log.info("Opened {} with {} categories", path, categories.size());
+    }
+
+    @Override
+    public void readFromInputStream(InputStream inputStream) {
+        checkNotRead();
+        try {
+            if (!open(MemorySegment.ofArray(inputStream.readAllBytes()))) {
+                log.error("Not a binary dictionary");
+            }
+        } catch (IOException e) {
+            log.error("Error reading binary dictionary", e);
+        }
+    }
+
+    @Override
+    public List<String> getCategories() {
+        return categories;
+    }
+
+    @Override
+    public List<DictionaryWord> getWordsInCategory(String category) {
+        Integer index = categoryIndices.get(category);
+        return index != null ? new WordsView(index) : null;
+    }
+
+    @Override
+    public DictionaryWord getRandomWordInCategory(String category) {
+        Integer index = categoryIndices.get(category);
+        if (index != null) {
+            long categoryOffset = categoryOffset(index);
+            int wordsCount = segment.get(INT, categoryOffset + 3 * Integer.BYTES);
+            int firstWord = segment.get(INT, categoryOffset + 2 * Integer.BYTES);
+            return word(index, firstWord + wordSelector.select(category, wordsCount));
+        } else {
+            return null;
+        }
+    }
+
+    @Override
+    public synchronized DifficultyIndex getDifficultyIndex() {
+        if (difficultyIndex == null) {
+            difficultyIndex = DifficultyIndex.of(this);
+        }
+        return difficultyIndex;
+    }
+
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    private void checkNotRead() {
+        if (segment != null) {
+            throw new IllegalStateException("Binary dictionary is already read");
+        }
+    }
+
+    private boolean open(MemorySegment mapped) {
+        if (mapped.byteSize() < HEADER_SIZE
+            || mapped.get(LONG, 0) != BinaryDictionaryCompiler.MAGIC
+            || mapped.get(INT, BinaryDictionaryCompiler.VERSION_OFFSET) != BinaryDictionaryCompiler.VERSION) {
+            return false;
+        }
+        int categoriesCount = mapped.get(INT, BinaryDictionaryCompiler.CATEGORIES_COUNT_OFFSET);
+        int wordsCount = mapped.get(INT, BinaryDictionaryCompiler.WORDS_COUNT_OFFSET);
+        long mappedArenaOffset = mapped.get(LONG, BinaryDictionaryCompiler.ARENA_OFFSET_OFFSET);
+        if (categoriesCount < 0 || wordsCount < 0 || mappedArenaOffset > mapped.byteSize()
+            || mappedArenaOffset != HEADER_SIZE + categoriesCount * CATEGORY_SIZE + wordsCount * WORD_SIZE) {
+            return false;
+        }
+
+        List<String> names = new ArrayList<>(categoriesCount);
+        Map<String, Integer> indices = new HashMap<>(categoriesCount * 2);
+        for (int i = 0; i < categoriesCount; ++i) {
+            long categoryOffset = categoryOffset(i);
+            String name = decode(mapped, mappedArenaOffset + mapped.get(INT, categoryOffset),
+                mapped.get(INT, categoryOffset + Integer.BYTES));
+            names.add(name);
+            indices.put(name, i);
+        }
+        segment = mapped;
+        arenaOffset = mappedArenaOffset;
+        categories = Collections.unmodifiableList(names);
+        categoryIndices = indices;
+        return true;
+    }
+
+    private static long categoryOffset(int index) {
+        return HEADER_SIZE + index * CATEGORY_SIZE;
+    }
+
+    private DictionaryWord word(int categoryIndex, int wordIndex) {
+        long wordOffset = HEADER_SIZE + categories.size() * CATEGORY_SIZE + wordIndex * WORD_SIZE;
+        return new DictionaryWord(
+            categories.get(categoryIndex),
+            decode(segment, arenaOffset + segment.get(INT, wordOffset), segment.get(INT, wordOffset + Integer.BYTES)),
+            decode(segment, arenaOffset + segment.get(INT, wordOffset + 2 * Integer.BYTES),
+                segment.get(INT, wordOffset + 3 * Integer.BYTES))
+        );
+    }
+
+    private static String decode(MemorySegment segment, long offset, int length) {
+        byte[] bytes = new byte[length];
+        MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, offset, bytes, 0, length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private final class WordsView extends AbstractList<DictionaryWord> {
+        private final int categoryIndex;
+        private final int firstWord;
+        private final int wordsCount;
+
+        WordsView(int categoryIndex) {
+            long categoryOffset = categoryOffset(categoryIndex);
+            this.categoryIndex = categoryIndex;
+            this.firstWord = segment.get(INT, categoryOffset + 2 * Integer.BYTES);
+            this.wordsCount = segment.get(INT, categoryOffset + 3 * Integer.BYTES);
+        }
+
+        @Override
+        public DictionaryWord get(int index) {
+            if (index < 0 || index >= wordsCount) {
+                throw new IndexOutOfBoundsException(String.format("get(index=%d), size=%d", index, wordsCount));
+            }
+            return word(categoryIndex, firstWord + index);
+        }
+
+        @Override
+        public int size() {
+            return wordsCount;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package backend.academy.hangman;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+import lombok.experimental.UtilityClass;
+
+// Block gzip (the BGZF layout of bgzip): a series of independently compressed gzip members of at most 64 KiB,
+// each with a "BC" extra field holding the member size, so members can be found without decompressing
+// and inflated in parallel. The file is still valid gzip, and ends with an empty member.
+@UtilityClass
+@SuppressWarnings("MagicNumber")
+public class BlockGzip {
+    static final ValueLayout.OfShort SHORT = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    static final int HEADER_SIZE = 18;
+    static final int FOOTER_SIZE = 8;
+    static final int MAX_BLOCK_SIZE = 1 << 16;
+    static final int MAX_INPUT_SIZE = 0xFF00;  // as bgzip: leaves room for incompressible input
+
+    private static final byte[] HEADER = {
+        0x1F, (byte) 0x8B, 8, 4, 0, 0, 0, 0, 0, (byte) 0xFF, 6, 0, 'B', 'C', 2, 0
+    };
+    private static final int HEADER_MATCH_SIZE = 4;  // magic, deflate and the extra field flag
+    private static final int EXTRA_OFFSET = 12;
+    private static final int BLOCK_SIZE_OFFSET = 16;
+    private static final int GZIP_MAGIC = 0x8B1F;
+
+    public static boolean isBlockGzip(ByteBuffer header) {
+        if (header.remaining() < HEADER_SIZE) {
+            return false;
+        }
+        int start = header.position();
+        for (int i = 0; i < HEADER_MATCH_SIZE; ++i) {
+            if (header.get(start + i) != HEADER[i]) {
+                return false;
+            }
+        }
+        for (int i = EXTRA_OFFSET; i < HEADER.length; ++i) {
+            if (header.get(start + i) != HEADER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Wraps a gzip stream (plain or block) into a decompressing one; other streams are returned as they are
+    public static InputStream decompressed(InputStream inputStream) throws IOException {
+        InputStream buffered = new BufferedInputStream(inputStream, MAX_BLOCK_SIZE);
+        buffered.mark(2);
+        int magic = buffered.read() | buffered.read() << Byte.SIZE;
+        buffered.reset();
+        return magic == GZIP_MAGIC ? new GZIPInputStream(buffered, MAX_BLOCK_SIZE) : buffered;
+    }
+
+    // Offsets of all blocks of the file followed by its size
+    public static LongArrayList blockOffsets(MemorySegment file) throws ZipException {
+        LongArrayList offsets = new LongArrayList();
+        long offset = 0;
+        while (offset < file.byteSize()) {
+            if (file.byteSize() - offset < HEADER_SIZE + FOOTER_SIZE
+                || !isBlockGzip(file.asSlice(offset, HEADER_SIZE).asByteBuffer())) {
+                throw new ZipException("Not a block gzip header at " + offset);
+            }
+            offsets.add(offset);
+            offset += Short.toUnsignedInt(file.get(SHORT, offset + BLOCK_SIZE_OFFSET)) + 1;
+        }
+        if (offset != file.byteSize()) {
+            throw new ZipException("Truncated block gzip file");
+        }
+        offsets.add(offset);
+        return offsets;
+    }
+
+    // Decompressed contents of the blocks from..to - 1, back to back
+    public static byte[] inflate(MemorySegment file, LongArrayList offsets, int from, int to) throws ZipException {
+        int size = 0;
+        for (int block = from; block < to; ++block) {
+            size += file.get(INT, offsets.getLong(block + 1) - Integer.BYTES);
+        }
+        byte[] contents = new byte[size];
+        Inflater inflater = new Inflater(true);
+        CRC32 crc = new CRC32();
+        try {
+            int position = 0;
+            for (int block = from; block < to; ++block) {
+                long start = offsets.getLong(block);
+                long end = offsets.getLong(block + 1);
+                int blockSize = file.get(INT, end - Integer.BYTES);
+                inflater.reset();
+                // The footer is passed along: a raw inflater may need a byte past the compressed data
+                inflater.setInput(file.asSlice(start + HEADER_SIZE, end - start - HEADER_SIZE).asByteBuffer());
+                int inflated = 0;
+                while (inflated < blockSize && !inflater.finished()) {
+                    int count = inflater.inflate(contents, position + inflated, blockSize - inflated);
+                    if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        break;
+                    }
+                    inflated += count;
+                }
+                if (inflated != blockSize) {
+                    throw new ZipException("Corrupt block gzip block at " + start);
+                }
+                crc.reset();
+                crc.update(contents, position, blockSize);
+                if ((int) crc.getValue() != file.get(INT, end - FOOTER_SIZE)) {
+                    throw new ZipException("CRC mismatch in block gzip block at " + start);
+                }
+                position += blockSize;
+            }
+        } catch (DataFormatException e) {
+            throw new ZipException(e.getMessage());
+        } finally {
+            inflater.end();
+        }
+        return contents;
+    }
+
+    // Writes the stream as block gzip, ending with the empty block
+    public static void compress(InputStream inputStream, OutputStream outputStream) throws IOException {
+        byte[] input = new byte[MAX_INPUT_SIZE];
+        byte[] block = new byte[MAX_BLOCK_SIZE];
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        CRC32 crc = new CRC32();
+        try {
+            int read;
+            while ((read = inputStream.readNBytes(input, 0, input.length)) > 0) {
+                writeBlock(input, read, block, deflater, crc, outputStream);
+            }
+            writeBlock(input, 0, block, deflater, crc, outputStream);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static void writeBlock(
+        byte[] input, int length, byte[] block, Deflater deflater, CRC32 crc, OutputStream outputStream
+    ) throws IOException {
+        deflater.reset();
+        deflater.setInput(input, 0, length);
+        deflater.finish();
+        int compressedSize = 0;
+        int capacity = block.length - HEADER_SIZE - FOOTER_SIZE;
+        while (!deflater.finished() && compressedSize < capacity) {
+            compressedSize += deflater.deflate(block, HEADER_SIZE + compressedSize, capacity - compressedSize);
+        }
+        if (!deflater.finished()) {
+            throw new ZipException("Block does not fit into " + MAX_BLOCK_SIZE + " bytes");
+        }
+        crc.reset();
+        crc.update(input, 0, length);
+        int blockSize = HEADER_SIZE + compressedSize + FOOTER_SIZE;
+        MemorySegment segment = MemorySegment.ofArray(block);
+        MemorySegment.copy(MemorySegment.ofArray(HEADER), 0, segment, 0, HEADER.length);
+        segment.set(SHORT, BLOCK_SIZE_OFFSET, (short) (blockSize - 1));
+        segment.set(INT, HEADER_SIZE + compressedSize, (int) crc.getValue());
+        segment.set(INT, HEADER_SIZE + compressedSize + Integer.BYTES, length);
+        outputStream.write(block, 0, blockSize);
+    }
+}
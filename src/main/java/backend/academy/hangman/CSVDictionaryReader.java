@@ -1,20 +1,34 @@
 package backend.academy.hangman;
 
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.security.SecureRandom;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.zip.ZipException;
 import lombok.extern.log4j.Log4j2;
 
+// Reads plain, gzip and block gzip (see BlockGzip) files. Blocks of a block gzip file are inflated and split
+// into rows by the common pool, a batch of BLOCKS_PER_TASK blocks per task, while the calling thread adds
+// the rows of finished batches in file order; rows crossing batch boundaries are joined back on the way.
 @Log4j2
 public class CSVDictionaryReader implements DictionaryReader {
     public static final String COMMA = ",";
@@ -22,48 +36,199 @@ public class CSVDictionaryReader implements DictionaryReader {
     public static final String TAB = "\\t";
     public static final String VERTICAL_BAR = "\\|";
 
+    private static final int BLOCKS_PER_TASK = 64;
+
     private final String separator;
-    private final List<String> categories;
-    private final Map<String, List<DictionaryWord>> wordsByCategory; // <category, List<Word>>
-    private final SecureRandom random;
+    private final CompactDictionary dictionary;
+    private final LetterStatistics letterStatistics;
+    private DifficultyIndex difficultyIndex;  // built on demand, dropped by every read
+    private final WordSelector wordSelector;
+    private final boolean strict;
+    private LoadReport loadReport;
 
-    @SuppressWarnings({"MagicNumber"})
-    private void readCSVFile(InputStream inputStream) {
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+    // Malformed rows are counted in the load report and summarized in one log line when the load is over
+    private void readCSVFile(InputStream inputStream, String source) {
+        loadReport = new LoadReport(source, strict);
+        try {
+            readRows(inputStream, separator, loadReport, this::addValidRow);
+        } catch (IOException e) {
+            log.error("Error reading CSV file", e);
+        }
+        loadReport.log();
+    }
+
+    // Splits the lines of a plain or gzip stream into rows and passes the valid ones on; readers that parse rows
+    // like this one share it
+    static void readRows(InputStream inputStream, String separator, LoadReport loadReport, Consumer<String[]> rows)
+        throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(BlockGzip.decompressed(inputStream), StandardCharsets.UTF_8))) {
             String line;
+            long lineNumber = 0;
             while ((line = reader.readLine()) != null) {
+                lineNumber++;
                 String[] data = line.split(separator);
-                if (data.length != 3) {
-                    log.error("Invalid line: {}", line);
-                    log.error(Arrays.toString(data));
+                if (checkRow(data, loadReport, lineNumber)) {
+                    rows.accept(data);
+                }
+            }
+        }
+    }
+
+    // Counts the row in the load report and tells whether it is a valid category, word and hint
+    @SuppressWarnings({"MagicNumber"})
+    static boolean checkRow(String[] data, LoadReport loadReport, long lineNumber) {
+        if (data.length != 3) {
+            loadReport.error(LoadReport.errorKind(data, 3), lineNumber);
+            return false;
+        }
+        loadReport.row();
+        return true;
+    }
+
+    private void addRow(String[] data, long lineNumber) {
+        if (checkRow(data, loadReport, lineNumber)) {
+            addValidRow(data);
+        }
+    }
+
+    private void addValidRow(String[] data) {
+        String category = data[0];
+        String word = data[1];
+        String hint = data[2];
+
+        dictionary.add(category, word, hint);
+        letterStatistics.add(category, word);
+    }
+
+    private void readBlockGzipFile(FileChannel channel, String source) throws IOException {
+        loadReport = new LoadReport(source, strict);
+        ArrayDeque<CompletableFuture<Batch>> pending = new ArrayDeque<>();
+        // Inflater only takes buffers of non-closeable mappings, so this one is unmapped once unreachable
+        MemorySegment file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), Arena.ofAuto());
+        LongArrayList offsets = BlockGzip.blockOffsets(file);
+        int blocksCount = offsets.size() - 1;
+        int maxPendingCount = 2 * Math.max(ForkJoinPool.getCommonPoolParallelism(), 1);
+        ByteArrayOutputStream carry = new ByteArrayOutputStream();
+        long lineNumber = 0;
+        int nextBlock = 0;
+        try {
+            while (nextBlock < blocksCount || !pending.isEmpty()) {
+                while (nextBlock < blocksCount && pending.size() < maxPendingCount) {
+                    int from = nextBlock;
+                    int to = Math.min(from + BLOCKS_PER_TASK, blocksCount);
+                    pending.add(CompletableFuture.supplyAsync(() -> parseBatch(file, offsets, from, to)));
+                    nextBlock = to;
+                }
+                Batch batch = pending.remove().join();
+                if (batch.head() == null) {
+                    carry.writeBytes(batch.tail());
                     continue;
                 }
-                String category = data[0];
-                String word = data[1];
-                String hint = data[2];
-
-                DictionaryWord dictionaryWord = new DictionaryWord(category, word, hint);
-                wordsByCategory.computeIfAbsent(category, k -> {
-                    categories.add(category);
-                    return new ArrayList<>();
-                }).add(dictionaryWord);
+                carry.writeBytes(batch.head());
+                addJoinedRow(carry, ++lineNumber);
+                for (String[] row : batch.rows()) {
+                    addRow(row, ++lineNumber);
+                }
+                carry.reset();
+                carry.writeBytes(batch.tail());
             }
-        } catch (IOException e) {
-            log.error("Error reading CSV file", e);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException uncheckedIOException) {
+                throw uncheckedIOException.getCause();
+            }
+            throw e;
+        } finally {
+            // After a failure, batches not started yet are skipped
+            pending.forEach(future -> future.cancel(false));
+        }
+        if (carry.size() > 0) {
+            addJoinedRow(carry, ++lineNumber);
+        }
+        loadReport.log();
+    }
+
+    // Adds the row whose bytes were split between batches
+    private void addJoinedRow(ByteArrayOutputStream bytes, long lineNumber) {
+        String line = bytes.toString(StandardCharsets.UTF_8);
+        if (line.endsWith("\r")) {
+            line = line.substring(0, line.length() - 1);
         }
+        addRow(line.split(separator), lineNumber);
+    }
+
+    // Rows of the batch between its first and its last line feed; head and tail are the bytes before the first
+    // and after the last one, to be joined with the neighbouring batches. A batch without line feeds has a null
+    // head and all its bytes in tail
+    private Batch parseBatch(MemorySegment file, LongArrayList offsets, int from, int to) {
+        byte[] contents;
+        try {
+            contents = BlockGzip.inflate(file, offsets, from, to);
+        } catch (ZipException e) {
+            throw new UncheckedIOException(e);
+        }
+        int first = 0;
+        while (first < contents.length && contents[first] != '\n') {
+            first++;
+        }
+        if (first == contents.length) {
+            return new Batch(null, List.of(), contents);
+        }
+        List<String[]> rows = new ArrayList<>();
+        int lineStart = first + 1;
+        for (int i = lineStart; i < contents.length; ++i) {
+            if (contents[i] == '\n') {
+                int lineEnd = i > lineStart && contents[i - 1] == '\r' ? i - 1 : i;
+                String line = new String(contents, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8);
+                rows.add(line.split(separator));
+                lineStart = i + 1;
+            }
+        }
+        return new Batch(
+            Arrays.copyOf(contents, first),
+            rows,
+            Arrays.copyOfRange(contents, lineStart, contents.length)
+        );
+    }
+
+    private record Batch(byte[] head, List<String[]> rows, byte[] tail) {
     }
 
     public CSVDictionaryReader(String separator) {
-        this.categories = new ArrayList<>();
-        this.wordsByCategory = new HashMap<>();
-        this.random = new SecureRandom();
+        this(separator, new ThreadLocalWordSelector());
+    }
+
+    public CSVDictionaryReader(String separator, WordSelector wordSelector) {
+        this(separator, wordSelector, false);
+    }
+
+    // A strict reader throws DictionaryFormatException at the first malformed row; rows before it stay loaded
+    public CSVDictionaryReader(String separator, WordSelector wordSelector, boolean strict) {
+        this.dictionary = new CompactDictionary();
+        this.letterStatistics = new LetterStatistics();
+        this.wordSelector = wordSelector;
         this.separator = separator;
+        this.strict = strict;
     }
 
     @Override
     public void readFromFile(String path) throws IOException {
+        dropDifficultyIndex();
+        try (FileChannel channel = FileChannel.open(Path.of(path), StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(BlockGzip.HEADER_SIZE);
+            int read = 0;
+            while (header.hasRemaining() && read >= 0) {
+                read = channel.read(header);
+            }
+            if (BlockGzip.isBlockGzip(header.flip())) {
+                readBlockGzipFile(channel, path);
+                return;
+            }
+        } catch (IOException e) {
+            throw new IOException(e);
+        }
         try (InputStream inputStream = Files.newInputStream(Path.of(path))) {
-            readFromInputStream(inputStream);
+            readCSVFile(inputStream, path);
         } catch (IOException e) {
             throw new IOException(e);
         }
@@ -71,24 +236,54 @@ public class CSVDictionaryReader implements DictionaryReader {
 
     @Override
     public void readFromInputStream(InputStream inputStream) {
-        readCSVFile(inputStream);
+        dropDifficultyIndex();
+        readCSVFile(inputStream, "input stream");
+    }
+
+    // Letter counts of all words read so far, updated as rows are added
+    public LetterStatistics getLetterStatistics() {
+        return letterStatistics;
+    }
+
+    // Difficulty buckets of all words read so far, built from the letter statistics on the first call after a read.
+    // Sessions sharing the reader may ask for it concurrently; a read must not overlap them (see snapshot())
+    @Override
+    public synchronized DifficultyIndex getDifficultyIndex() {
+        if (difficultyIndex == null) {
+            difficultyIndex = DifficultyIndex.of(this, letterStatistics);
+        }
+        return difficultyIndex;
+    }
+
+    private synchronized void dropDifficultyIndex() {
+        difficultyIndex = null;
+    }
+
+    // Report of the last read, or null before the first one
+    public LoadReport getLoadReport() {
+        return loadReport;
+    }
+
+    // Immutable copy of the words read so far, safe to share between sessions; later reads do not affect it
+    public DictionarySnapshot snapshot() {
+        return DictionarySnapshot.of(this, wordSelector);
     }
 
     @Override
     public List<String> getCategories() {
-        return categories;
+        return dictionary.getCategories();
     }
 
     @Override
     public List<DictionaryWord> getWordsInCategory(String category) {
-        return wordsByCategory.get(category);
+        return dictionary.getWordsInCategory(category);
     }
 
     @Override
     public DictionaryWord getRandomWordInCategory(String category) {
-        List<DictionaryWord> wordsInCategory = wordsByCategory.get(category);
+        List<DictionaryWord> wordsInCategory = dictionary.getWordsInCategory(category);
         if (wordsInCategory != null) {
-            return wordsInCategory.get(random.nextInt(wordsInCategory.size()));
+            return wordsInCategory.get(wordSelector.select(category, wordsInCategory.size()));
         } else {
             return null;
         }
@@ -0,0 +1,193 @@
+package backend.academy.hangman;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+// Append-only word store without an object per word: categories are ordinals, and the word and hint text
+// of all words is packed back to back into one byte arena.
+// Word i spans [bounds[2i], bounds[2i + 1]) and its hint spans [bounds[2i + 1], bounds[2i + 2]).
+// Text of ASCII and Russian letters takes one byte per char (see narrow); any other word is stored as UTF-8
+// and flagged in the sign bit of its category ordinal.
+// DictionaryWord records are created on access and are not kept.
+@SuppressWarnings("MagicNumber")
+public final class CompactDictionary {
+    private static final int INITIAL_ARENA_CAPACITY = 1 << 12;
+    private static final int UTF_8_FLAG = Integer.MIN_VALUE;
+    private static final int CYRILLIC_CODE = 0x80;
+    private static final int UPPER_YO_CODE = 0xC0;
+    private static final int LOWER_YO_CODE = 0xC1;
+
+    private final List<String> categories;
+    private final List<String> categoriesView;
+    private final Map<String, Integer> categoryOrdinals;
+    private final List<IntArrayList> categoryWords;  // word ids by category ordinal
+    private final IntArrayList wordCategories;
+    private final IntArrayList bounds;
+    private byte[] arena;
+
+    public CompactDictionary() {
+        this.categories = new ArrayList<>();
+        this.categoriesView = Collections.unmodifiableList(categories);
+        this.categoryOrdinals = new HashMap<>();
+        this.categoryWords = new ArrayList<>();
+        this.wordCategories = new IntArrayList();
+        this.bounds = IntArrayList.of(0);
+        this.arena = new byte[INITIAL_ARENA_CAPACITY];
+    }
+
+    // Returns the id of the added word
+    public int add(String category, String word, String hint) {
+        int ordinal = categoryOrdinals.computeIfAbsent(category, k -> {
+            categories.add(category);
+            categoryWords.add(new IntArrayList());
+            return categories.size() - 1;
+        });
+        int wordId = append(ordinal, word, hint);
+        categoryWords.get(ordinal).add(wordId);
+        return wordId;
+    }
+
+    // Puts a new word in place of the index-th word of the category and returns its id. The text of the old word
+    // stays in the arena and its id stays valid, but it is no longer in the category
+    public int replace(String category, int index, String word, String hint) {
+        Integer ordinal = categoryOrdinals.get(category);
+        if (ordinal == null) {
+            throw new IllegalArgumentException("No such category: " + category);
+        }
+        IntArrayList wordIds = categoryWords.get(ordinal);
+        Objects.checkIndex(index, wordIds.size());
+        int wordId = append(ordinal, word, hint);
+        wordIds.set(index, wordId);
+        return wordId;
+    }
+
+    private int append(int ordinal, String word, String hint) {
+        int wordId = wordCategories.size();
+        boolean narrow = isNarrow(word) && isNarrow(hint);
+        byte[] wordBytes = narrow ? null : word.getBytes(StandardCharsets.UTF_8);
+        byte[] hintBytes = narrow ? null : hint.getBytes(StandardCharsets.UTF_8);
+        int wordStart = bounds.getInt(bounds.size() - 1);
+        int hintStart = wordStart + (narrow ? word.length() : wordBytes.length);
+        int end = hintStart + (narrow ? hint.length() : hintBytes.length);
+        if (end < 0) {
+            throw new IllegalStateException("Compact dictionary is full");
+        }
+        if (end > arena.length) {
+            arena = Arrays.copyOf(arena, (int) Math.min(Math.max(end, 2L * arena.length), Integer.MAX_VALUE));
+        }
+        if (narrow) {
+            putNarrow(word, wordStart);
+            putNarrow(hint, hintStart);
+        } else {
+            System.arraycopy(wordBytes, 0, arena, wordStart, wordBytes.length);
+            System.arraycopy(hintBytes, 0, arena, hintStart, hintBytes.length);
+        }
+        bounds.add(hintStart);
+        bounds.add(end);
+        wordCategories.add(narrow ? ordinal : ordinal | UTF_8_FLAG);
+        return wordId;
+    }
+
+    public List<String> getCategories() {
+        return categoriesView;
+    }
+
+    // Live view of the words of the category, or null if there is no such category
+    public List<DictionaryWord> getWordsInCategory(String category) {
+        Integer ordinal = categoryOrdinals.get(category);
+        return ordinal != null ? new WordsView(categoryWords.get(ordinal)) : null;
+    }
+
+    // Number of ids given out, replaced words included
+    public int size() {
+        return wordCategories.size();
+    }
+
+    public DictionaryWord word(int wordId) {
+        int wordStart = bounds.getInt(2 * wordId);
+        int hintStart = bounds.getInt(2 * wordId + 1);
+        int end = bounds.getInt(2 * wordId + 2);
+        int ordinal = wordCategories.getInt(wordId);
+        boolean narrow = (ordinal & UTF_8_FLAG) == 0;
+        return new DictionaryWord(
+            categories.get(ordinal & ~UTF_8_FLAG),
+            narrow ? getNarrow(wordStart, hintStart) : getUtf8(wordStart, hintStart),
+            narrow ? getNarrow(hintStart, end) : getUtf8(hintStart, end)
+        );
+    }
+
+    // One byte per char: ASCII as is, 'А'..'я' from 0x80, then 'Ё' and 'ё'
+    private static boolean isNarrow(String text) {
+        for (int i = 0; i < text.length(); ++i) {
+            char c = text.charAt(i);
+            if (c >= CYRILLIC_CODE && (c < 'А' || c > 'я') && c != 'Ё' && c != 'ё') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void putNarrow(String text, int offset) {
+        for (int i = 0; i < text.length(); ++i) {
+            char c = text.charAt(i);
+            int code;
+            if (c < CYRILLIC_CODE) {
+                code = c;
+            } else if (c == 'Ё') {
+                code = UPPER_YO_CODE;
+            } else if (c == 'ё') {
+                code = LOWER_YO_CODE;
+            } else {
+                code = CYRILLIC_CODE + c - 'А';
+            }
+            arena[offset + i] = (byte) code;
+        }
+    }
+
+    private String getUtf8(int from, int to) {
+        return new String(arena, from, to - from, StandardCharsets.UTF_8);
+    }
+
+    private String getNarrow(int from, int to) {
+        char[] chars = new char[to - from];
+        for (int i = 0; i < chars.length; ++i) {
+            int code = arena[from + i] & 0xFF;
+            if (code < CYRILLIC_CODE) {
+                chars[i] = (char) code;
+            } else if (code == UPPER_YO_CODE) {
+                chars[i] = 'Ё';
+            } else if (code == LOWER_YO_CODE) {
+                chars[i] = 'ё';
+            } else {
+                chars[i] = (char) ('А' + code - CYRILLIC_CODE);
+            }
+        }
+        return new String(chars);
+    }
+
+    private final class WordsView extends AbstractList<DictionaryWord> {
+        private final IntArrayList wordIds;
+
+        WordsView(IntArrayList wordIds) {
+            this.wordIds = wordIds;
+        }
+
+        @Override
+        public DictionaryWord get(int index) {
+            return word(wordIds.getInt(index));
+        }
+
+        @Override
+        public int size() {
+            return wordIds.size();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package backend.academy.hangman;
+
+import lombok.experimental.UtilityClass;
+
+// Fixed-width encoding of a round in LONGS_PER_STATE longs, so idle sessions can live in a flat long[]:
+//   long 0: hits mask (bits 0-32) | misses count (bits 33-38) | max misses count (bits 39-46)
+//   long 1: misses mask (bits 0-32) | word id (bits 33-63)
+// Guess order and the last guess status are not kept: decoded hits and misses come in alphabet order.
+@UtilityClass
+@SuppressWarnings("MagicNumber")
+public class CompactState {
+    public static final int LONGS_PER_STATE = 2;
+    public static final int MAX_WORD_ID = Integer.MAX_VALUE;
+    public static final int MAX_MAX_MISSES_COUNT = 0xFF;
+
+    private static final int MISSES_COUNT_SHIFT = Constants.ALPHABET_SIZE;
+    private static final int MAX_MISSES_COUNT_SHIFT = MISSES_COUNT_SHIFT + 6;
+    private static final int WORD_ID_SHIFT = Constants.ALPHABET_SIZE;
+    private static final long MISSES_COUNT_MASK = 0x3FL;
+
+    public static void write(
+        long[] states,
+        int offset,
+        int wordId,
+        long hitsMask,
+        long missesMask,
+        int missesCount,
+        int maxMissesCount
+    ) {
+        if (wordId < 0) {
+            throw new IllegalArgumentException(String.format("wordId=%d", wordId));
+        }
+        states[offset] = hitsMask
+            | (long) missesCount << MISSES_COUNT_SHIFT
+            | (long) Math.min(maxMissesCount, MAX_MAX_MISSES_COUNT) << MAX_MISSES_COUNT_SHIFT;
+        states[offset + 1] = missesMask | (long) wordId << WORD_ID_SHIFT;
+    }
+
+    public static int wordId(long[] states, int offset) {
+        return (int) (states[offset + 1] >>> WORD_ID_SHIFT);
+    }
+
+    public static long hitsMask(long[] states, int offset) {
+        return states[offset] & Alphabet.FULL_MASK;
+    }
+
+    public static long missesMask(long[] states, int offset) {
+        return states[offset + 1] & Alphabet.FULL_MASK;
+    }
+
+    public static int missesCount(long[] states, int offset) {
+        return (int) (states[offset] >>> MISSES_COUNT_SHIFT & MISSES_COUNT_MASK);
+    }
+
+    public static int maxMissesCount(long[] states, int offset) {
+        return (int) (states[offset] >>> MAX_MISSES_COUNT_SHIFT & MAX_MAX_MISSES_COUNT);
+    }
+
+    // secretMask is Alphabet.maskOf(word) of the encoded word
+    public static Status.GameStatus gameStatus(long[] states, int offset, long secretMask) {
+        if (missesCount(states, offset) > maxMissesCount(states, offset)) {
+            return Status.GameStatus.LOSE;
+        }
+        long hitsMask = hitsMask(states, offset);
+        return secretMask != 0 && hitsMask == secretMask ? Status.GameStatus.WIN : Status.GameStatus.NONE;
+    }
+
+    // Same rules as Hangman.guess, applied in place to the encoded state
+    public static Status guess(long[] states, int offset, long secretMask, char letter) {
+        int letterIndex = Alphabet.indexOf(Character.toUpperCase(letter));
+        Status.GuessStatus guessStatus;
+        if (letterIndex < 0) {
+            guessStatus = Status.GuessStatus.INVALID;
+        } else {
+            long letterBit = 1L << letterIndex;
+            if (((states[offset] | states[offset + 1]) & letterBit) != 0) {
+                guessStatus = Status.GuessStatus.ALREADY_GUESSED;
+            } else if ((secretMask & letterBit) != 0) {
+                states[offset] |= letterBit;
+                guessStatus = Status.GuessStatus.CORRECT;
+            } else {
+                states[offset] += 1L << MISSES_COUNT_SHIFT;
+                states[offset + 1] |= letterBit;
+                guessStatus = Status.GuessStatus.INCORRECT;
+            }
+        }
+        return Status.of(guessStatus, gameStatus(states, offset, secretMask));
+    }
+}
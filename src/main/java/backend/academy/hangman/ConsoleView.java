@@ -6,8 +6,8 @@ import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
 import java.util.Arrays;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Scanner;
-import java.util.stream.Collectors;
 import lombok.Getter;
 
 public class ConsoleView implements View {
@@ -136,7 +136,7 @@ public class ConsoleView implements View {
         }
     };
 
-    private final InputStream inputStream;
+    private final Scanner scanner;
     private final OutputStream outputStream;
     private final ScreenBuffer screenBuffer;
     private final SecureRandom random;
@@ -147,7 +147,8 @@ public class ConsoleView implements View {
     }
 
     public ConsoleView(InputStream inputStream, OutputStream outputStream) {
-        this.inputStream = inputStream;
+        // A single scanner for the whole conversation: a scanner per dialog would lose its read-ahead buffer
+        this.scanner = new Scanner(inputStream, StandardCharsets.UTF_8);
         this.outputStream = outputStream;
         this.screenBuffer = new ScreenBuffer(Constants.DISPLAY_HEIGHT, Constants.DISPLAY_WIDTH);
         this.random = new SecureRandom();
@@ -160,7 +161,11 @@ public class ConsoleView implements View {
 
     @Override
     public void sayGoodbye() {
-        say(Constants.GOODBYE_MESSAGE);
+        try {
+            say(Constants.GOODBYE_MESSAGE);
+        } catch (NoSuchElementException e) {
+            // The input ended after the last answer (e.g. the client disconnected): there is no Enter to wait for
+        }
     }
 
     @Override
@@ -260,11 +265,11 @@ public class ConsoleView implements View {
     public void draw(Model model) {
         screenBuffer.clear();
         Status status = model.getStatus();
-        List<Character> misses = model.getMisses();
-        int missesCount = misses.size();
+        CharSequence misses = model.getMissesView();
+        int missesCount = misses.length();
         int maxMissesCount = model.getMaxMissesCount();
         String secretWordHint = model.getSecretWordHint();
-        List<Character> wordRepresentation = model.getWordRepresentation();
+        CharSequence wordRepresentation = model.getWordRepresentationView();
 
         drawTitle();
         drawMessage(status);
@@ -296,18 +301,18 @@ public class ConsoleView implements View {
         col = screenBuffer.cols() / 2 - Constants.PRESS_ENTER.length() / 2;
         screenBuffer.set(row, col, Constants.PRESS_ENTER);
         screenBuffer.writeToOutputStream(outputStream);
-        try {
-            inputStream.read();
-        } catch (Exception e) {
-
-        }
+        scanner.nextLine();
     }
 
+    // Reads the first word of the answer and drops the rest of its line, so the next dialog waits for a new line
     private String makeDialog(String question) {
         screenBuffer.set(screenBuffer.rows() - 1, 0, question);
         screenBuffer.writeToOutputStream(outputStream);
-        Scanner scanner = new Scanner(inputStream, StandardCharsets.UTF_8);
-        return scanner.next();
+        String answer = scanner.next();
+        if (scanner.hasNextLine()) {
+            scanner.nextLine();
+        }
+        return answer;
     }
 
     private int askCustomMaxMissesCount() {
@@ -371,7 +376,7 @@ public class ConsoleView implements View {
         }
     }
 
-    private void drawMissesAndHint(List<Character> misses, int missesCount, int maxMissesCount, String hint) {
+    private void drawMissesAndHint(CharSequence misses, int missesCount, int maxMissesCount, String hint) {
         int row = Constants.MISSES_ROW;
         int col = Constants.MISSES_COL_0;
         screenBuffer.set(row, col, Constants.MISSES_TITLE);
@@ -386,7 +391,7 @@ public class ConsoleView implements View {
                 if (missIdx >= maxMissesCount) {
                     break;
                 }
-                char miss = missIdx < missesCount ? misses.get(missIdx) : '_';
+                char miss = missIdx < missesCount ? misses.charAt(missIdx) : '_';
                 screenBuffer.set(row + rowIdx, col, miss);
                 missIdx++;
                 col += 2;
@@ -412,10 +417,15 @@ public class ConsoleView implements View {
         }
     }
 
-    private void drawHits(List<Character> wordRepresentation) {
-        String wordRepresentationString = wordRepresentation.stream()
-            .map(Object::toString)
-            .collect(Collectors.joining(" "));
+    private void drawHits(CharSequence wordRepresentation) {
+        StringBuilder builder = new StringBuilder(wordRepresentation.length() * 2);
+        for (int i = 0; i < wordRepresentation.length(); ++i) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(wordRepresentation.charAt(i));
+        }
+        String wordRepresentationString = builder.toString();
         int row = Constants.HITS_ROW;
         int col = screenBuffer.cols() / 2 - wordRepresentationString.length() / 2;
         screenBuffer.set(row, col, wordRepresentationString);
@@ -0,0 +1,18 @@
+package backend.academy.hangman;
+
+import java.util.List;
+
+// Read-only access to the words of a dictionary; a DictionaryReader is a Dictionary that can also be read into
+public interface Dictionary {
+    List<String> getCategories();
+
+    List<DictionaryWord> getWordsInCategory(String category);
+
+    DictionaryWord getRandomWordInCategory(String category);
+
+    // Difficulty buckets of the words, by which Game matches a word to the allowed misses count, or null if there
+    // are none. Built from all the words on every call; the dictionaries of this package build it once
+    default DifficultyIndex getDifficultyIndex() {
+        return DifficultyIndex.of(this);
+    }
+}
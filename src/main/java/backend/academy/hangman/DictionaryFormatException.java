@@ -0,0 +1,20 @@
+package backend.academy.hangman;
+
+import java.io.Serial;
+import lombok.Getter;
+
+// Thrown by a strict load at the first malformed row
+@Getter
+public class DictionaryFormatException extends RuntimeException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final LoadReport.ErrorKind kind;
+    private final long lineNumber;
+
+    public DictionaryFormatException(String source, LoadReport.ErrorKind kind, long lineNumber) {
+        super(String.format("%s, line %d: %s", source, lineNumber, kind));
+        this.kind = kind;
+        this.lineNumber = lineNumber;
+    }
+}
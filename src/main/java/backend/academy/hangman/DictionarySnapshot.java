@@ -0,0 +1,70 @@
+package backend.academy.hangman;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Immutable, read-optimized Dictionary over a WordIndex: words live in one array and every category list
+// is an unmodifiable view of its range, created once. All fields are final and never change after construction,
+// so a snapshot can be shared by any number of threads without locking.
+// Its letter statistics and difficulty index are computed once, when it is built.
+public final class DictionarySnapshot implements Dictionary {
+    private final WordIndex wordIndex;
+    private final Map<String, List<DictionaryWord>> wordsByCategory;
+    private final LetterStatistics letterStatistics;
+    private final DifficultyIndex difficultyIndex;
+    private final WordSelector wordSelector;
+
+    private DictionarySnapshot(WordIndex wordIndex, WordSelector wordSelector) {
+        this.wordIndex = wordIndex;
+        this.wordSelector = wordSelector;
+        Map<String, List<DictionaryWord>> words = new HashMap<>(wordIndex.getCategories().size() * 2);
+        LetterStatistics statistics = new LetterStatistics();
+        for (String category : wordIndex.getCategories()) {
+            words.put(category, wordIndex.getWordsInCategory(category));
+            for (DictionaryWord word : wordIndex.getWordsInCategory(category)) {
+                statistics.add(category, word.word());
+            }
+        }
+        this.wordsByCategory = words;
+        this.letterStatistics = statistics;
+        this.difficultyIndex = DifficultyIndex.of(this, statistics);
+    }
+
+    public static DictionarySnapshot of(Dictionary dictionary) {
+        return of(dictionary, new ThreadLocalWordSelector());
+    }
+
+    public static DictionarySnapshot of(Dictionary dictionary, WordSelector wordSelector) {
+        return new DictionarySnapshot(WordIndex.of(dictionary), wordSelector);
+    }
+
+    public WordIndex getWordIndex() {
+        return wordIndex;
+    }
+
+    public LetterStatistics getLetterStatistics() {
+        return letterStatistics;
+    }
+
+    @Override
+    public DifficultyIndex getDifficultyIndex() {
+        return difficultyIndex;
+    }
+
+    @Override
+    public List<String> getCategories() {
+        return wordIndex.getCategories();
+    }
+
+    @Override
+    public List<DictionaryWord> getWordsInCategory(String category) {
+        return wordsByCategory.get(category);
+    }
+
+    @Override
+    public DictionaryWord getRandomWordInCategory(String category) {
+        List<DictionaryWord> words = wordsByCategory.get(category);
+        return words != null ? words.get(wordSelector.select(category, words.size())) : null;
+    }
+}
@@ -0,0 +1,155 @@
+package backend.academy.hangman;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+// Immutable per-category word buckets by difficulty score and by length, built once from a loaded dictionary.
+// Each category keeps the positions of its words sorted (counting sort) by score and by length, with the first index
+// of every score and length, so a random word of a score or length range, or of a difficulty band, is one array access
+// and one lookup in the word list of the category, which the index keeps instead of copies of the words: readers
+// that change their words drop their index.
+// The score of a word sums 1 + rarity over its distinct letters: more distinct letters mean more guesses,
+// and rarity (0 to MAX_RARITY) grows as fewer words of the dictionary contain the letter.
+@SuppressWarnings("MagicNumber")
+public final class DifficultyIndex {
+    public static final int MAX_RARITY = 2;
+    public static final int MAX_SCORE = Constants.ALPHABET_SIZE * (1 + MAX_RARITY);
+    public static final int MAX_LENGTH = 32;  // longer words share the last length bucket
+
+    private final int[] rarities;
+    private final Map<String, Buckets> bucketsByCategory;
+
+    private DifficultyIndex(int[] rarities, Map<String, Buckets> bucketsByCategory) {
+        this.rarities = rarities;
+        this.bucketsByCategory = bucketsByCategory;
+    }
+
+    public static DifficultyIndex of(Dictionary dictionary) {
+        return of(dictionary, LetterStatistics.of(dictionary));
+    }
+
+    // Takes letter rarities from statistics already computed for the dictionary
+    public static DifficultyIndex of(Dictionary dictionary, LetterStatistics letterStatistics) {
+        int[] rarities = rarities(letterStatistics.wordsWithLetter());
+
+        Map<String, Buckets> bucketsByCategory = new HashMap<>();
+        for (String category : dictionary.getCategories()) {
+            List<DictionaryWord> words = dictionary.getWordsInCategory(category);
+            int[] scores = new int[words.size()];
+            int[] lengths = new int[words.size()];
+            for (int i = 0; i < scores.length; ++i) {
+                String word = words.get(i).word();
+                scores[i] = score(word, rarities);
+                lengths[i] = Math.min(word.length(), MAX_LENGTH);
+            }
+            bucketsByCategory.put(category, new Buckets(words, Bucket.of(scores, MAX_SCORE),
+                Bucket.of(lengths, MAX_LENGTH)));
+        }
+        return new DifficultyIndex(rarities, bucketsByCategory);
+    }
+
+    // Letters contained in the fewest words get MAX_RARITY, the most common ones 0 (equal shares of the alphabet)
+    private static int[] rarities(int[] wordsWithLetter) {
+        Integer[] order = new Integer[Constants.ALPHABET_SIZE];
+        for (int i = 0; i < order.length; ++i) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(wordsWithLetter[b], wordsWithLetter[a]));
+        int[] rarities = new int[Constants.ALPHABET_SIZE];
+        for (int rank = 0; rank < order.length; ++rank) {
+            rarities[order[rank]] = rank * (MAX_RARITY + 1) / order.length;
+        }
+        return rarities;
+    }
+
+    public int score(String word) {
+        return score(word, rarities);
+    }
+
+    private static int score(String word, int[] rarities) {
+        long mask = Alphabet.maskOf(word);
+        int score = 0;
+        while (mask != 0) {
+            score += 1 + rarities[Long.numberOfTrailingZeros(mask)];
+            mask &= mask - 1;
+        }
+        return score;
+    }
+
+    public int rarity(char letter) {
+        int index = Alphabet.indexOf(Character.toUpperCase(letter));
+        return index >= 0 ? rarities[index] : 0;
+    }
+
+    // Uniform over the words of the category scored in [minScore, maxScore]. Returns null if there are none
+    public DictionaryWord getRandomWord(String category, int minScore, int maxScore, RandomGenerator random) {
+        Buckets buckets = bucketsByCategory.get(category);
+        return buckets != null ? buckets.word(buckets.byScore.random(minScore, maxScore, random)) : null;
+    }
+
+    // Uniform over the words of the category with length in [minLength, maxLength]. Returns null if there are none
+    public DictionaryWord getRandomWordOfLength(String category, int minLength, int maxLength, RandomGenerator random) {
+        Buckets buckets = bucketsByCategory.get(category);
+        return buckets != null ? buckets.word(buckets.byLength.random(minLength, maxLength, random)) : null;
+    }
+
+    // Uniform over the easiest, middle or hardest third of the category by score, for the difficulty levels
+    // of ConsoleView: more allowed misses mean an easier word. Returns null if there is no such category
+    public DictionaryWord getRandomWordForMaxMissesCount(String category, int maxMissesCount, RandomGenerator random) {
+        Buckets buckets = bucketsByCategory.get(category);
+        if (buckets == null) {
+            return null;
+        }
+        int band;
+        if (maxMissesCount >= Constants.EASY_MISSES_COUNT) {
+            band = 0;
+        } else if (maxMissesCount >= Constants.NORMAL_MISSES_COUNT) {
+            band = 1;
+        } else {
+            band = 2;
+        }
+        return buckets.word(buckets.byScore.randomInThird(band, random));
+    }
+
+    // The buckets hold positions in the word list of the category, which is only read when a word is picked
+    private record Buckets(List<DictionaryWord> words, Bucket byScore, Bucket byLength) {
+        DictionaryWord word(int position) {
+            return position >= 0 ? words.get(position) : null;
+        }
+    }
+
+    // Word positions sorted by key; positions[starts[k]] .. positions[starts[k + 1] - 1] have key k
+    private record Bucket(int[] positions, int[] starts) {
+        static Bucket of(int[] keys, int maxKey) {
+            int[] starts = new int[maxKey + 2];
+            for (int key : keys) {
+                starts[key + 1]++;
+            }
+            for (int k = 0; k <= maxKey; ++k) {
+                starts[k + 1] += starts[k];
+            }
+            int[] next = starts.clone();
+            int[] positions = new int[keys.length];
+            for (int i = 0; i < keys.length; ++i) {
+                positions[next[keys[i]]++] = i;
+            }
+            return new Bucket(positions, starts);
+        }
+
+        // A random position, or -1 if there are none
+        int random(int minKey, int maxKey, RandomGenerator random) {
+            int from = starts[Math.clamp(minKey, 0, starts.length - 1)];
+            int to = starts[Math.clamp(maxKey + 1L, 0, starts.length - 1)];
+            return from < to ? positions[random.nextInt(from, to)] : -1;
+        }
+
+        int randomInThird(int third, RandomGenerator random) {
+            int from = positions.length * third / 3;
+            int to = Math.max(positions.length * (third + 1) / 3, from + 1);
+            return positions.length != 0 ? positions[random.nextInt(from, Math.min(to, positions.length))] : -1;
+        }
+    }
+}
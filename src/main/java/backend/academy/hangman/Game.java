@@ -1,14 +1,25 @@
 package backend.academy.hangman;
 
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
 public class Game implements Controller {
-    private Model model;
+    private final Model model;
     private final View view;
-    private final DictionaryReader dictionaryReader;
+    private final Dictionary dictionary;
+    private final WordSelector wordSelector;
+
+    // Words are picked by the difficulty index of the dictionary, if it has one, to match the allowed misses count,
+    // and by the dictionary's own getRandomWordInCategory otherwise
+    public Game(Model model, View view, Dictionary dictionary) {
+        this(model, view, dictionary, null);
+    }
 
-    public Game(Model model, View view, DictionaryReader dictionaryReader) {
+    public Game(Model model, View view, Dictionary dictionary, WordSelector wordSelector) {
         this.model = model;
         this.view = view;
-        this.dictionaryReader = dictionaryReader;
+        this.dictionary = dictionary;
+        this.wordSelector = wordSelector;
     }
 
     @Override
@@ -17,10 +28,10 @@ public class Game implements Controller {
 
         boolean playAgain = true;
         while (playAgain) {
-            String category = view.askCategory(dictionaryReader.getCategories());
+            String category = view.askCategory(dictionary.getCategories());
             int maxMissesCount = view.askMaxMissesCount();
-            DictionaryWord secretWord = dictionaryReader.getRandomWordInCategory(category);
-            model = model.createModel(secretWord, maxMissesCount);
+            DictionaryWord secretWord = selectWord(category, maxMissesCount);
+            model.reset(secretWord, maxMissesCount);
 
             gameLoop();
 
@@ -30,6 +41,17 @@ public class Game implements Controller {
         view.sayGoodbye();
     }
 
+    private DictionaryWord selectWord(String category, int maxMissesCount) {
+        if (wordSelector == null) {
+            DifficultyIndex difficultyIndex = dictionary.getDifficultyIndex();
+            DictionaryWord word = difficultyIndex != null ? difficultyIndex.getRandomWordForMaxMissesCount(
+                category, maxMissesCount, ThreadLocalRandom.current()) : null;
+            return word != null ? word : dictionary.getRandomWordInCategory(category);
+        }
+        List<DictionaryWord> words = dictionary.getWordsInCategory(category);
+        return words != null && !words.isEmpty() ? words.get(wordSelector.select(category, words.size())) : null;
+    }
+
     private void gameLoop() {
         while (true) {
             view.draw(model);
@@ -0,0 +1,65 @@
+package backend.academy.hangman;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.log4j.Log4j2;
+
+// Accepts TCP connections and plays a Game with each client on its own virtual thread
+@Log4j2
+public class GameServer implements Controller, AutoCloseable {
+    private final ServerSocket serverSocket;
+    private final Dictionary dictionary;
+    private final ExecutorService executor;
+
+    public GameServer(int port, Dictionary dictionary) throws IOException {
+        this(new ServerSocket(port), dictionary);
+    }
+
+    public GameServer(int port, InetAddress bindAddress, Dictionary dictionary) throws IOException {
+        this(new ServerSocket(port, 0, bindAddress), dictionary);
+    }
+
+    private GameServer(ServerSocket serverSocket, Dictionary dictionary) {
+        this.serverSocket = serverSocket;
+        this.dictionary = dictionary;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    // Blocks accepting connections until the server is closed
+    @Override
+    public void run() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                executor.execute(() -> serve(socket));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    log.error("Error accepting connection", e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        executor.shutdownNow();
+    }
+
+    private void serve(Socket socket) {
+        try (socket) {
+            Controller game = new Game(new Hangman(), new SocketView(socket), dictionary);
+            game.run();
+        } catch (IOException | RuntimeException e) {
+            log.info("Connection {} closed: {}", socket.getRemoteSocketAddress(), e.toString());
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package backend.academy.hangman;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ObjLongConsumer;
+
+// Headless host for many concurrent Hangman rounds keyed by session id.
+// Every session is guarded by its own monitor, so operations on different sessions never contend.
+public class GameSessionManager {
+    private final Map<Long, Session> sessions;
+    private final AtomicLong lastSessionId;
+    private final HangmanPool pool;
+    private final Object restoreLock;
+    private volatile SessionSnapshot resumedSnapshot;
+    private volatile IntFunction<DictionaryWord> resumedWords;
+
+    public GameSessionManager(HangmanPool pool) {
+        this.sessions = new ConcurrentHashMap<>();
+        this.lastSessionId = new AtomicLong();
+        this.pool = pool;
+        this.restoreLock = new Object();
+    }
+
+    // Sessions of the snapshot are restored lazily, on their first lookup; words resolves CompactState word ids.
+    // The snapshot must stay open while this manager is in use.
+    public void resume(SessionSnapshot snapshot, IntFunction<DictionaryWord> words) {
+        resumedWords = words;
+        resumedSnapshot = snapshot;
+        lastSessionId.accumulateAndGet(snapshot.getLastSessionId(), Math::max);
+    }
+
+    public long createSession(DictionaryWord secretWord, int maxMissesCount) {
+        long sessionId = lastSessionId.incrementAndGet();
+        sessions.put(sessionId, new Session(pool.acquire(secretWord, maxMissesCount)));
+        return sessionId;
+    }
+
+    // Returns the status after the guess, or null if there is no such session
+    public Status guess(long sessionId, char letter) {
+        Session session = findSession(sessionId);
+        if (session == null) {
+            return null;
+        }
+        synchronized (session) {
+            if (session.ended) {
+                return null;
+            }
+            session.hangman.guess(letter);
+            return session.hangman.getStatus();
+        }
+    }
+
+    // Applies the whole batch under one lock acquisition. Returns null if there is no such session
+    public GuessBatchResult guessAll(long sessionId, CharSequence letters) {
+        Session session = findSession(sessionId);
+        if (session == null) {
+            return null;
+        }
+        synchronized (session) {
+            return session.ended ? null : session.hangman.guessAll(letters);
+        }
+    }
+
+    public Status getStatus(long sessionId) {
+        return query(sessionId, Model::getStatus);
+    }
+
+    // Runs the reader under the session lock; the model must not escape it. Returns null if there is no such session
+    public <T> T query(long sessionId, Function<? super Model, ? extends T> reader) {
+        Session session = findSession(sessionId);
+        if (session == null) {
+            return null;
+        }
+        synchronized (session) {
+            return session.ended ? null : reader.apply(session.hangman);
+        }
+    }
+
+    // A resumed session that was not looked up yet is taken from the snapshot first, so it is not resumed later
+    public boolean endSession(long sessionId) {
+        Session session = findSession(sessionId);
+        if (session == null || !sessions.remove(sessionId, session)) {
+            return false;
+        }
+        synchronized (session) {
+            session.ended = true;
+            pool.release(session.hangman);
+        }
+        return true;
+    }
+
+    public int getSessionsCount() {
+        return sessions.size();
+    }
+
+    public long getLastSessionId() {
+        return lastSessionId.get();
+    }
+
+    SessionSnapshot getResumedSnapshot() {
+        return resumedSnapshot;
+    }
+
+    // Runs the action while no snapshot session is being restored, so it sees every session either as pending
+    // in the snapshot or as live here
+    void pausingRestores(Runnable action) {
+        synchronized (restoreLock) {
+            action.run();
+        }
+    }
+
+    void forEachSession(ObjLongConsumer<Hangman> consumer) {
+        sessions.forEach((sessionId, session) -> {
+            synchronized (session) {
+                if (!session.ended) {
+                    consumer.accept(session.hangman, sessionId);
+                }
+            }
+        });
+    }
+
+    private Session findSession(long sessionId) {
+        Session session = sessions.get(sessionId);
+        if (session == null && resumedSnapshot != null) {
+            session = restoreSession(sessionId);
+        }
+        return session;
+    }
+
+    // Reads the snapshot outside of the map's locks; restores are serialized, so a session is restored once
+    private Session restoreSession(long sessionId) {
+        long[] states = new long[CompactState.LONGS_PER_STATE];
+        synchronized (restoreLock) {
+            Session session = sessions.get(sessionId);
+            if (session != null || !resumedSnapshot.take(sessionId, states, 0)) {
+                return session;
+            }
+            DictionaryWord secretWord = resumedWords.apply(CompactState.wordId(states, 0));
+            Hangman hangman = pool.acquire(secretWord, CompactState.maxMissesCount(states, 0));
+            hangman.decode(states, 0, secretWord);
+            session = new Session(hangman);
+            sessions.put(sessionId, session);
+            return session;
+        }
+    }
+
+    private static final class Session {
+        private final Hangman hangman;
+        private boolean ended;
+
+        Session(Hangman hangman) {
+            this.hangman = hangman;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package backend.academy.hangman;
+
+// guessStatuses[i] is the GuessStatus ordinal of the i-th applied letter; letters after the game end are not applied
+public record GuessBatchResult(byte[] guessStatuses, Status.GameStatus gameStatus) {
+    private static final Status.GuessStatus[] GUESS_STATUSES = Status.GuessStatus.values();
+
+    public int appliedCount() {
+        return guessStatuses.length;
+    }
+
+    public Status.GuessStatus guessStatus(int index) {
+        return GUESS_STATUSES[guessStatuses[index]];
+    }
+}
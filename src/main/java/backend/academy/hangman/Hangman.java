@@ -1,39 +1,30 @@
 package backend.academy.hangman;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 public class Hangman implements Model {
-    private final DictionaryWord secretWord;
-    private final int maxMissesCount;
-    private final Set<Character> correctLetters;
+    private DictionaryWord secretWord;
+    private int maxMissesCount;
+    private LetterPositions secretLetters;
+    private long secretMask;  // bit i is set if Alphabet.letterAt(i) occurs in the secret word
+    private long hitsMask;
+    private long missesMask;
     private Status currentStatus;
-    private List<Character> misses;
+    private LetterBuffer misses;
     private int missesCount;
-    private List<Character> hits;
-    private List<Character> wordRepresentation;
+    private LetterBuffer hits;
+    private LetterBuffer wordRepresentation;
 
     private Hangman(DictionaryWord secretWord, int maxMissesCount) {
-        this.secretWord = secretWord;
-        this.maxMissesCount = maxMissesCount >= 0 ? maxMissesCount : Constants.DEFAULT_MAX_MISSES_COUNT;
-        this.correctLetters = secretWord.word().chars()
-            .mapToObj(e -> Character.toUpperCase((char) e))
-            .collect(Collectors.toCollection(HashSet::new));
-        this.misses = new ArrayList<>();
-        this.missesCount = 0;
-        this.hits = new ArrayList<>();
-        this.currentStatus = new Status(Status.GuessStatus.NONE, Status.GameStatus.NONE);
-        this.wordRepresentation = new ArrayList<>(Collections.nCopies(secretWord.word().length(), '_'));
+        startRound(secretWord, maxMissesCount);
     }
 
     public Hangman() {
         this.secretWord = null;
         this.maxMissesCount = -1;
-        this.correctLetters = null;
+        this.secretLetters = null;
+        this.secretMask = 0L;
         this.missesCount = -1;
     }
 
@@ -42,52 +33,112 @@ public class Hangman implements Model {
         return new Hangman(secretWord, maxMissesCount);
     }
 
+    @Override
+    public void reset(DictionaryWord secretWord, int maxMissesCount) {
+        startRound(secretWord, maxMissesCount);
+    }
+
+    private void startRound(DictionaryWord secretWord, int maxMissesCount) {
+        String word = secretWord.word();
+        this.secretWord = secretWord;
+        this.maxMissesCount = maxMissesCount >= 0 ? maxMissesCount : Constants.DEFAULT_MAX_MISSES_COUNT;
+        if (secretLetters == null) {
+            secretLetters = new LetterPositions(word);
+            misses = new LetterBuffer(Constants.ALPHABET_SIZE);
+            hits = new LetterBuffer(Constants.ALPHABET_SIZE);
+            wordRepresentation = new LetterBuffer(word.length());
+        } else {
+            secretLetters.rebuild(word);
+            misses.clear();
+            hits.clear();
+        }
+        secretMask = secretLetters.mask();
+        hitsMask = 0L;
+        missesMask = 0L;
+        missesCount = 0;
+        wordRepresentation.fill(word.length(), '_');
+        currentStatus = Status.of(Status.GuessStatus.NONE, Status.GameStatus.NONE);
+    }
+
     @Override
     public void guess(char letter) {
         char upperCaseLetter = Character.toUpperCase(letter);
+        int letterIndex = Alphabet.indexOf(upperCaseLetter);
         Status.GuessStatus guessStatus;
-        if (!(('А' <= upperCaseLetter && upperCaseLetter <= 'Я') || upperCaseLetter == 'Ё')) {
+        if (letterIndex < 0) {
             guessStatus = Status.GuessStatus.INVALID;
-        } else if (misses.contains(upperCaseLetter) || hits.contains(upperCaseLetter)) {
+        } else if (((hitsMask | missesMask) & (1L << letterIndex)) != 0) {
             guessStatus = Status.GuessStatus.ALREADY_GUESSED;
         } else {
-            if (correctLetters.contains(upperCaseLetter)) {
-                addHit(upperCaseLetter);
+            if ((secretMask & (1L << letterIndex)) != 0) {
+                addHit(upperCaseLetter, letterIndex);
             } else {
-                addMiss(upperCaseLetter);
+                addMiss(upperCaseLetter, letterIndex);
             }
             return;  // addHit and addMiss are changing currentStatus
         }
-        currentStatus = new Status(guessStatus, currentStatus.gameStatus());
+        currentStatus = Status.of(guessStatus, currentStatus.gameStatus());
     }
 
-    private void addHit(char letter) {
-        hits.add(letter);
+    @Override
+    public GuessBatchResult guessAll(CharSequence letters) {
+        byte[] guessStatuses = new byte[letters.length()];
+        int appliedCount = 0;
+        while (appliedCount < letters.length() && currentStatus.gameStatus() == Status.GameStatus.NONE) {
+            guess(letters.charAt(appliedCount));
+            guessStatuses[appliedCount++] = (byte) currentStatus.guessStatus().ordinal();
+        }
+        if (appliedCount < guessStatuses.length) {
+            guessStatuses = Arrays.copyOf(guessStatuses, appliedCount);
+        }
+        return new GuessBatchResult(guessStatuses, currentStatus.gameStatus());
+    }
 
-        for (int i = 0; i < secretWord.word().length(); ++i) {
-            if (Character.toUpperCase(secretWord.word().charAt(i)) == letter) {
-                wordRepresentation.set(i, letter);
+    @Override
+    public void encode(int wordId, long[] states, int offset) {
+        CompactState.write(states, offset, wordId, hitsMask, missesMask, missesCount, maxMissesCount);
+    }
+
+    @Override
+    public void decode(long[] states, int offset, DictionaryWord secretWord) {
+        startRound(secretWord, CompactState.maxMissesCount(states, offset));
+        long decodedHitsMask = CompactState.hitsMask(states, offset) & secretMask;
+        long decodedMissesMask = CompactState.missesMask(states, offset) & ~secretMask;
+        for (int i = 0; i < Constants.ALPHABET_SIZE; ++i) {
+            if ((decodedHitsMask & (1L << i)) != 0) {
+                addHit(Alphabet.letterAt(i), i);
+            } else if ((decodedMissesMask & (1L << i)) != 0) {
+                addMiss(Alphabet.letterAt(i), i);
             }
         }
+        missesCount = CompactState.missesCount(states, offset);
+        currentStatus = Status.of(Status.GuessStatus.NONE, CompactState.gameStatus(states, offset, secretMask));
+    }
+
+    private void addHit(char letter, int letterIndex) {
+        hits.append(letter);
+        hitsMask |= 1L << letterIndex;
 
-        Set<Character> correctLettersCopy = new HashSet<>(correctLetters);
-        hits.forEach(correctLettersCopy::remove);
+        for (int i = secretLetters.start(letterIndex); i < secretLetters.end(letterIndex); ++i) {
+            wordRepresentation.set(secretLetters.position(i), letter);
+        }
 
-        if (correctLettersCopy.isEmpty()) {
-            currentStatus = new Status(Status.GuessStatus.CORRECT, Status.GameStatus.WIN);
+        if (hitsMask == secretMask) {
+            currentStatus = Status.of(Status.GuessStatus.CORRECT, Status.GameStatus.WIN);
         } else {
-            currentStatus = new Status(Status.GuessStatus.CORRECT, currentStatus.gameStatus());
+            currentStatus = Status.of(Status.GuessStatus.CORRECT, currentStatus.gameStatus());
         }
     }
 
-    private void addMiss(char letter) {
-        misses.add(letter);
+    private void addMiss(char letter, int letterIndex) {
+        misses.append(letter);
+        missesMask |= 1L << letterIndex;
         missesCount++;
 
         if (missesCount > maxMissesCount) {
-            currentStatus = new Status(Status.GuessStatus.INCORRECT, Status.GameStatus.LOSE);
+            currentStatus = Status.of(Status.GuessStatus.INCORRECT, Status.GameStatus.LOSE);
         } else {
-            currentStatus = new Status(Status.GuessStatus.INCORRECT, currentStatus.gameStatus());
+            currentStatus = Status.of(Status.GuessStatus.INCORRECT, currentStatus.gameStatus());
         }
     }
 
@@ -103,6 +154,11 @@ public class Hangman implements Model {
 
     @Override
     public List<Character> getMisses() {
+        return misses != null ? misses.asList() : null;
+    }
+
+    @Override
+    public CharSequence getMissesView() {
         return misses;
     }
 
@@ -113,14 +169,28 @@ public class Hangman implements Model {
 
     @Override
     public List<Character> getHits() {
+        return hits != null ? hits.asList() : null;
+    }
+
+    @Override
+    public CharSequence getHitsView() {
         return hits;
     }
 
     @Override
     public List<Character> getWordRepresentation() {
+        return wordRepresentation != null ? wordRepresentation.asList() : null;
+    }
+
+    @Override
+    public CharSequence getWordRepresentationView() {
         return wordRepresentation;
     }
 
+    DictionaryWord getSecretWord() {
+        return secretWord;
+    }
+
     @Override
     public String getSecretWordHint() {
         return secretWord != null ?  secretWord.hint() : null;
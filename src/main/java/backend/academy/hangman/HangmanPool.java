@@ -0,0 +1,31 @@
+package backend.academy.hangman;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+// Bounded, thread-safe pool of idle Hangman instances; a released model is reset on the next acquire
+public class HangmanPool {
+    private final BlockingQueue<Hangman> idle;
+
+    public HangmanPool(int capacity) {
+        this.idle = new ArrayBlockingQueue<>(capacity);
+    }
+
+    public Hangman acquire(DictionaryWord secretWord, int maxMissesCount) {
+        Hangman hangman = idle.poll();
+        if (hangman == null) {
+            hangman = new Hangman();
+        }
+        hangman.reset(secretWord, maxMissesCount);
+        return hangman;
+    }
+
+    // Returns false if the pool is full and the instance was left to the garbage collector
+    public boolean release(Hangman hangman) {
+        return idle.offer(hangman);
+    }
+
+    public int idleCount() {
+        return idle.size();
+    }
+}
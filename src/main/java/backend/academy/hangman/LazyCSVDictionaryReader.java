@@ -0,0 +1,356 @@
+package backend.academy.hangman;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.log4j.Log4j2;
+
+// DictionaryReader that only indexes its files up front: one pass records the byte offset of every valid row
+// by category, and the words of a category are read from the file when the category is first asked for, in one
+// forward pass through a window of the file. A random word of a category that is not cached is read alone.
+// Loaded word lists live in a Caffeine cache bounded by the total number of cached words, so memory follows
+// the categories in use. Rows are validated like MappedCSVDictionaryReader does.
+// An input stream is copied to a temporary file first, which is deleted on close.
+// Malformed rows are counted in the load report of the read, which is logged when indexing is over.
+@Log4j2
+public class LazyCSVDictionaryReader implements DictionaryReader, AutoCloseable {
+    private static final int SOURCE_SHIFT = 48;
+    private static final long OFFSET_MASK = (1L << SOURCE_SHIFT) - 1;
+    private static final int MAX_SOURCES_COUNT = 1 << (Long.SIZE - 1 - SOURCE_SHIFT);
+    private static final int BUFFER_SIZE = 1 << 13;
+    private static final int LINE_BUFFER_SIZE = 1 << 8;
+    private static final int SCAN_BUFFER_SIZE = 1 << 16;
+    private static final int FIELDS_COUNT = 3;
+
+    private final byte separator;
+    private final WordSelector wordSelector;
+    private final List<FileChannel> sources;
+    private final List<Path> temporaryFiles;
+    private final List<String> categories;
+    private final Map<String, LongArrayList> rowsByCategory;  // source << SOURCE_SHIFT | row offset
+    private final LoadingCache<String, List<DictionaryWord>> cache;
+    private LoadReport loadReport;
+
+    public LazyCSVDictionaryReader(String separator, long maxCachedWordsCount) {
+        this(separator, maxCachedWordsCount, new ThreadLocalWordSelector());
+    }
+
+    public LazyCSVDictionaryReader(String separator, long maxCachedWordsCount, WordSelector wordSelector) {
+        this.separator = MappedCSVDictionaryReader.separatorByte(separator);
+        this.wordSelector = wordSelector;
+        this.sources = new ArrayList<>();
+        this.temporaryFiles = new ArrayList<>();
+        this.categories = new ArrayList<>();
+        this.rowsByCategory = new HashMap<>();
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maxCachedWordsCount)
+            .<String, List<DictionaryWord>>weigher((category, words) -> words.size())
+            .build(this::loadCategory);
+    }
+
+    @Override
+    public void readFromFile(String path) throws IOException {
+        if (sources.size() == MAX_SOURCES_COUNT) {
+            throw new IOException("Too many dictionary files");
+        }
+        FileChannel channel = FileChannel.open(Path.of(path), StandardOpenOption.READ);
+        try (InputStream inputStream = Files.newInputStream(Path.of(path))) {
+            index(inputStream, sources.size(), path);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        sources.add(channel);
+        // Words of already cached categories may have been added
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void readFromInputStream(InputStream inputStream) {
+        try {
+            Path file = Files.createTempFile("dictionary", ".csv");
+            temporaryFiles.add(file);
+            Files.copy(inputStream, file, StandardCopyOption.REPLACE_EXISTING);
+            readFromFile(file.toString());
+        } catch (IOException e) {
+            log.error("Error reading CSV file", e);
+        }
+    }
+
+    @Override
+    public List<String> getCategories() {
+        return Collections.unmodifiableList(categories);
+    }
+
+    @Override
+    public List<DictionaryWord> getWordsInCategory(String category) {
+        return rowsByCategory.containsKey(category) ? cache.get(category) : null;
+    }
+
+    @Override
+    public DictionaryWord getRandomWordInCategory(String category) {
+        LongArrayList rows = rowsByCategory.get(category);
+        if (rows == null) {
+            return null;
+        }
+        int index = wordSelector.select(category, rows.size());
+        List<DictionaryWord> words = cache.getIfPresent(category);
+        if (words != null) {
+            return words.get(index);
+        }
+        long row = rows.getLong(index);
+        try {
+            ByteBuffer line = readLine(sources.get((int) (row >>> SOURCE_SHIFT)), row & OFFSET_MASK,
+                ByteBuffer.allocate(LINE_BUFFER_SIZE));
+            return parseRow(category, line.array(), 0, line.limit());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // None: its letter statistics would take reading every category
+    @Override
+    public DifficultyIndex getDifficultyIndex() {
+        return null;
+    }
+
+    // Report of the last read, or null before the first one
+    public LoadReport getLoadReport() {
+        return loadReport;
+    }
+
+    // Total size of the cached word lists, after pending evictions
+    public long getCachedWordsCount() {
+        cache.cleanUp();
+        return cache.policy().eviction().orElseThrow().weightedSize().orElseThrow();
+    }
+
+    @Override
+    public void close() throws IOException {
+        cache.invalidateAll();
+        for (FileChannel source : sources) {
+            source.close();
+        }
+        for (Path file : temporaryFiles) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private void index(InputStream inputStream, int source, String path) throws IOException {
+        loadReport = new LoadReport(path, false);
+        Indexer indexer = new Indexer(source);
+        byte[] chunk = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = inputStream.read(chunk)) != -1) {
+            for (int i = 0; i < read; ++i) {
+                indexer.accept(chunk[i]);
+            }
+        }
+        indexer.finish();
+        loadReport.log();
+    }
+
+    // Returns the length of the category field of a valid row, or -1 after counting the row in the load report
+    private int categoryLength(byte[] line, int length, long lineNumber) {
+        int contentEnd = length;
+        if (contentEnd > 0 && line[contentEnd - 1] == '\r') {
+            contentEnd--;
+        }
+        int end = contentEnd;
+        while (end > 0 && line[end - 1] == separator) {
+            end--;
+        }
+        int firstSeparator = -1;
+        int separatorsCount = 0;
+        for (int i = 0; i < end; ++i) {
+            if (line[i] == separator) {
+                if (separatorsCount == 0) {
+                    firstSeparator = i;
+                }
+                separatorsCount++;
+            }
+        }
+        if (separatorsCount != 2) {
+            loadReport.error(LoadReport.errorKind(contentEnd, end > 0 ? separatorsCount + 1 : 0, FIELDS_COUNT),
+                lineNumber);
+            return -1;
+        }
+        loadReport.row();
+        return firstSeparator;
+    }
+
+    // Rows are kept in file order, so the rows of a category are read by one forward RowScanner pass
+    private List<DictionaryWord> loadCategory(String category) {
+        LongArrayList rows = rowsByCategory.get(category);
+        List<DictionaryWord> words = new ArrayList<>(rows.size());
+        RowScanner scanner = new RowScanner();
+        try {
+            for (int i = 0; i < rows.size(); ++i) {
+                long row = rows.getLong(i);
+                words.add(scanner.read(category, sources.get((int) (row >>> SOURCE_SHIFT)), row & OFFSET_MASK));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Collections.unmodifiableList(words);
+    }
+
+    // Leaves the line at the given offset, without its line end, between 0 and the buffer limit
+    private static ByteBuffer readLine(FileChannel channel, long offset, ByteBuffer buffer) throws IOException {
+        ByteBuffer current = buffer;
+        current.clear();
+        while (true) {
+            int read = channel.read(current, offset + current.position());
+            for (int i = 0; i < current.position(); ++i) {
+                if (current.get(i) == '\n') {
+                    return current.limit(i).position(0);
+                }
+            }
+            if (read < 0) {
+                return current.flip();
+            }
+            if (!current.hasRemaining()) {
+                current = ByteBuffer.allocate(2 * current.capacity()).put(current.flip());
+            }
+        }
+    }
+
+    private final class Indexer {
+        private final int source;
+        private byte[] line = new byte[BUFFER_SIZE];
+        private int length;
+        private long lineStart;
+        private long lineNumber;
+        private byte[] lastCategory = new byte[0];
+        private LongArrayList lastRows;
+
+        Indexer(int source) {
+            this.source = source;
+        }
+
+        void accept(byte next) {
+            if (next == '\n') {
+                endLine();
+            } else {
+                if (length == line.length) {
+                    line = Arrays.copyOf(line, 2 * length);
+                }
+                line[length++] = next;
+            }
+        }
+
+        void finish() {
+            if (length > 0) {
+                endLine();
+            }
+        }
+
+        private void endLine() {
+            int categoryLength = categoryLength(line, length, ++lineNumber);
+            if (categoryLength >= 0) {
+                if (lastRows == null
+                    || !Arrays.equals(line, 0, categoryLength, lastCategory, 0, lastCategory.length)) {
+                    lastCategory = Arrays.copyOf(line, categoryLength);
+                    String category = new String(lastCategory, StandardCharsets.UTF_8);
+                    lastRows = rowsByCategory.computeIfAbsent(category, k -> {
+                        categories.add(category);
+                        return new LongArrayList();
+                    });
+                }
+                lastRows.add((long) source << SOURCE_SHIFT | lineStart);
+            }
+            lineStart += length + 1;
+            length = 0;
+        }
+    }
+
+    // Reads rows at increasing offsets of the sources through one window, refilled forward only when a row
+    // starts or ends past it; a row longer than the window grows it
+    private final class RowScanner {
+        private byte[] window = new byte[SCAN_BUFFER_SIZE];
+        private FileChannel channel;
+        private long windowStart;
+        private int windowLength;
+        private boolean atEnd;
+
+        DictionaryWord read(String category, FileChannel source, long offset) throws IOException {
+            if (source != channel || offset < windowStart || offset >= windowStart + windowLength) {
+                fill(source, offset);
+            }
+            while (true) {
+                int from = (int) (offset - windowStart);
+                for (int i = from; i < windowLength; ++i) {
+                    if (window[i] == '\n') {
+                        return parseRow(category, window, from, i);
+                    }
+                }
+                if (atEnd) {
+                    return parseRow(category, window, from, windowLength);
+                }
+                if (from == 0) {
+                    window = new byte[2 * window.length];
+                }
+                fill(source, offset);
+            }
+        }
+
+        private void fill(FileChannel source, long offset) throws IOException {
+            channel = source;
+            windowStart = offset;
+            windowLength = 0;
+            atEnd = false;
+            while (windowLength < window.length) {
+                int read = source.read(ByteBuffer.wrap(window, windowLength, window.length - windowLength),
+                    offset + windowLength);
+                if (read < 0) {
+                    atEnd = true;
+                    return;
+                }
+                windowLength += read;
+            }
+        }
+    }
+
+    // The row is bytes[from, to), without its line feed
+    private DictionaryWord parseRow(String category, byte[] bytes, int from, int to) {
+        int end = to;
+        if (end > from && bytes[end - 1] == '\r') {
+            end--;
+        }
+        while (end > from && bytes[end - 1] == separator) {
+            end--;
+        }
+        int firstSeparator = -1;
+        int secondSeparator = -1;
+        for (int i = from; i < end; ++i) {
+            if (bytes[i] == separator) {
+                if (firstSeparator < 0) {
+                    firstSeparator = i;
+                } else {
+                    secondSeparator = i;
+                }
+            }
+        }
+        return new DictionaryWord(
+            category,
+            new String(bytes, firstSeparator + 1, secondSeparator - firstSeparator - 1, StandardCharsets.UTF_8),
+            new String(bytes, secondSeparator + 1, end - secondSeparator - 1, StandardCharsets.UTF_8)
+        );
+    }
+}
@@ -0,0 +1,80 @@
+package backend.academy.hangman;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+// Growable char array that is exposed as a live CharSequence (no boxing) and as a live List<Character>
+final class LetterBuffer implements CharSequence {
+    private final List<Character> listView = new ListView();
+    private char[] chars;
+    private int length;
+
+    LetterBuffer(int capacity) {
+        this.chars = new char[capacity];
+    }
+
+    void append(char letter) {
+        ensureCapacity(length + 1);
+        chars[length++] = letter;
+    }
+
+    void set(int index, char letter) {
+        chars[index] = letter;
+    }
+
+    void fill(int newLength, char letter) {
+        ensureCapacity(newLength);
+        Arrays.fill(chars, 0, newLength, letter);
+        length = newLength;
+    }
+
+    void clear() {
+        length = 0;
+    }
+
+    List<Character> asList() {
+        return listView;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(String.format("charAt(index=%d), length=%d", index, length));
+        }
+        return chars[index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return new String(chars, 0, length);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (chars.length < capacity) {
+            chars = Arrays.copyOf(chars, Math.max(capacity, chars.length * 2));
+        }
+    }
+
+    private final class ListView extends AbstractList<Character> {
+        @Override
+        public Character get(int index) {
+            return charAt(index);
+        }
+
+        @Override
+        public int size() {
+            return length;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package backend.academy.hangman;
+
+import java.util.Arrays;
+
+// Positions of every alphabet letter in a word, grouped by letter (counting sort):
+// positions[starts[i]] .. positions[starts[i + 1] - 1] are the cells holding Alphabet.letterAt(i)
+final class LetterPositions {
+    private final int[] starts;
+    private int[] positions;
+    private long mask;
+
+    LetterPositions(CharSequence word) {
+        this.starts = new int[Constants.ALPHABET_SIZE + 1];
+        this.positions = new int[word.length()];
+        rebuild(word);
+    }
+
+    void rebuild(CharSequence word) {
+        if (positions.length < word.length()) {
+            positions = new int[word.length()];
+        }
+        Arrays.fill(starts, 0);
+        mask = 0L;
+
+        for (int i = 0; i < word.length(); ++i) {
+            int index = Alphabet.indexOf(Character.toUpperCase(word.charAt(i)));
+            if (index >= 0) {
+                starts[index + 1]++;
+                mask |= 1L << index;
+            }
+        }
+        for (int i = 0; i < Constants.ALPHABET_SIZE; ++i) {
+            starts[i + 1] += starts[i];
+        }
+        for (int i = 0; i < word.length(); ++i) {
+            int index = Alphabet.indexOf(Character.toUpperCase(word.charAt(i)));
+            if (index >= 0) {
+                positions[starts[index]++] = i;
+            }
+        }
+        // filling advanced every start to the end of its letter, shift them back
+        System.arraycopy(starts, 0, starts, 1, Constants.ALPHABET_SIZE);
+        starts[0] = 0;
+    }
+
+    long mask() {
+        return mask;
+    }
+
+    int start(int letterIndex) {
+        return starts[letterIndex];
+    }
+
+    int end(int letterIndex) {
+        return starts[letterIndex + 1];
+    }
+
+    int position(int i) {
+        return positions[i];
+    }
+}
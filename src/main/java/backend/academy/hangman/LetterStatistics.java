@@ -0,0 +1,104 @@
+package backend.academy.hangman;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Letter frequency tables over the alphabet (see Alphabet), per category and for the whole dictionary:
+// how many times every letter occurs, and in how many words. Filled word by word while a dictionary loads,
+// so reading a count is one array access. Letters are case-insensitive; other characters are not counted.
+// Only the dictionaries of this package fill statistics, so the ones they hand out are read-only for others,
+// and those of a DictionarySnapshot never change.
+public final class LetterStatistics {
+    private final Table total;
+    private final Map<String, Table> tables;
+
+    LetterStatistics() {
+        this.total = new Table();
+        this.tables = new HashMap<>();
+    }
+
+    public static LetterStatistics of(Dictionary dictionary) {
+        LetterStatistics statistics = new LetterStatistics();
+        for (String category : dictionary.getCategories()) {
+            for (DictionaryWord word : dictionary.getWordsInCategory(category)) {
+                statistics.add(category, word.word());
+            }
+        }
+        return statistics;
+    }
+
+    void add(String category, CharSequence word) {
+        Table table = tables.computeIfAbsent(category, k -> new Table());
+        long mask = 0L;
+        for (int i = 0; i < word.length(); ++i) {
+            int index = Alphabet.indexOf(Character.toUpperCase(word.charAt(i)));
+            if (index >= 0) {
+                table.letterCounts[index]++;
+                total.letterCounts[index]++;
+                mask |= 1L << index;
+            }
+        }
+        while (mask != 0) {
+            int index = Long.numberOfTrailingZeros(mask);
+            table.wordCounts[index]++;
+            total.wordCounts[index]++;
+            mask &= mask - 1;
+        }
+        table.wordsCount++;
+        total.wordsCount++;
+    }
+
+    public int wordsCount() {
+        return total.wordsCount;
+    }
+
+    public int wordsCount(String category) {
+        Table table = tables.get(category);
+        return table != null ? table.wordsCount : 0;
+    }
+
+    // Occurrences of the letter with the given Alphabet index
+    public int letterCount(int letterIndex) {
+        return total.letterCounts[letterIndex];
+    }
+
+    public int letterCount(String category, int letterIndex) {
+        Table table = tables.get(category);
+        return table != null ? table.letterCounts[letterIndex] : 0;
+    }
+
+    // Words containing the letter with the given Alphabet index
+    public int wordsWithLetter(int letterIndex) {
+        return total.wordCounts[letterIndex];
+    }
+
+    public int wordsWithLetter(String category, int letterIndex) {
+        Table table = tables.get(category);
+        return table != null ? table.wordCounts[letterIndex] : 0;
+    }
+
+    // Copies of the tables, indexed like Alphabet; null for a category without words
+    public int[] letterCounts() {
+        return total.letterCounts.clone();
+    }
+
+    public int[] letterCounts(String category) {
+        Table table = tables.get(category);
+        return table != null ? table.letterCounts.clone() : null;
+    }
+
+    public int[] wordsWithLetter() {
+        return total.wordCounts.clone();
+    }
+
+    public int[] wordsWithLetter(String category) {
+        Table table = tables.get(category);
+        return table != null ? table.wordCounts.clone() : null;
+    }
+
+    private static final class Table {
+        private final int[] letterCounts = new int[Constants.ALPHABET_SIZE];
+        private final int[] wordCounts = new int[Constants.ALPHABET_SIZE];
+        private int wordsCount;
+    }
+}
@@ -0,0 +1,119 @@
+package backend.academy.hangman;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+// Errors of one dictionary load, filled by the loading thread: counts by kind and the numbers of the first
+// malformed lines. A malformed row costs a counter increment instead of a log call; log() writes one summary
+// when the load is over. A strict report throws DictionaryFormatException at the first error instead.
+@Log4j2
+public final class LoadReport {
+    public static final int DEFAULT_MAX_SAMPLES_COUNT = 10;
+
+    public enum ErrorKind {
+        EMPTY_LINE,
+        TOO_FEW_FIELDS,
+        TOO_MANY_FIELDS
+    }
+
+    private static final ErrorKind[] ERROR_KINDS = ErrorKind.values();
+
+    @Getter private final String source;
+    @Getter private final boolean strict;
+    private final long[] errorsCounts;
+    private final long[] sampleLineNumbers;
+    private int samplesCount;
+    @Getter private long rowsCount;
+
+    public LoadReport(String source, boolean strict) {
+        this(source, strict, DEFAULT_MAX_SAMPLES_COUNT);
+    }
+
+    public LoadReport(String source, boolean strict, int maxSamplesCount) {
+        this.source = source;
+        this.strict = strict;
+        this.errorsCounts = new long[ERROR_KINDS.length];
+        this.sampleLineNumbers = new long[maxSamplesCount];
+    }
+
+    // Kind of the error of a row split by String.split, or null if the row is valid
+    public static ErrorKind errorKind(String[] fields, int expectedFieldsCount) {
+        if (fields.length == 1 && fields[0].isEmpty()) {
+            return ErrorKind.EMPTY_LINE;
+        }
+        if (fields.length < expectedFieldsCount) {
+            return ErrorKind.TOO_FEW_FIELDS;
+        }
+        return fields.length > expectedFieldsCount ? ErrorKind.TOO_MANY_FIELDS : null;
+    }
+
+    // Same for a row scanned as bytes: the length of its line without the line end, and its fields count
+    // after trailing empty fields, as String.split counts them
+    public static ErrorKind errorKind(long lineLength, int fieldsCount, int expectedFieldsCount) {
+        if (lineLength == 0) {
+            return ErrorKind.EMPTY_LINE;
+        }
+        if (fieldsCount < expectedFieldsCount) {
+            return ErrorKind.TOO_FEW_FIELDS;
+        }
+        return fieldsCount > expectedFieldsCount ? ErrorKind.TOO_MANY_FIELDS : null;
+    }
+
+    public void row() {
+        rowsCount++;
+    }
+
+    public void rows(long count) {
+        rowsCount += count;
+    }
+
+    // Line numbers start from 1
+    public void error(ErrorKind kind, long lineNumber) {
+        if (strict) {
+            throw new DictionaryFormatException(source, kind, lineNumber);
+        }
+        errorsCounts[kind.ordinal()]++;
+        if (samplesCount < sampleLineNumbers.length) {
+            sampleLineNumbers[samplesCount++] = lineNumber;
+        }
+    }
+
+    public long errorsCount() {
+        return Arrays.stream(errorsCounts).sum();
+    }
+
+    public long errorsCount(ErrorKind kind) {
+        return errorsCounts[kind.ordinal()];
+    }
+
+    // Numbers of the first malformed lines, in order
+    public long[] sampleLineNumbers() {
+        return Arrays.copyOf(sampleLineNumbers, samplesCount);
+    }
+
+    public String summary() {
+        long errorsCount = errorsCount();
+        if (errorsCount == 0) {
+            return String.format("%s: %d rows", source, rowsCount);
+        }
+        String counts = Arrays.stream(ERROR_KINDS)
+            .filter(kind -> errorsCounts[kind.ordinal()] != 0)
+            .map(kind -> kind + "=" + errorsCounts[kind.ordinal()])
+            .collect(Collectors.joining(", "));
+        String lines = Arrays.stream(sampleLineNumbers())
+            .mapToObj(Long::toString)
+            .collect(Collectors.joining(", ", "", errorsCount > samplesCount ? ", ..." : ""));
+        return String.format("%s: %d rows, %d malformed lines skipped (%s) at lines %s",
+            source, rowsCount, errorsCount, counts, lines);
+    }
+
+    public void log() {
+        if (errorsCount() == 0) {
+            log.info(summary());
+        } else {
+            log.warn(summary());
+        }
+    }
+}
@@ -0,0 +1,371 @@
+package backend.academy.hangman;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serial;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import lombok.extern.log4j.Log4j2;
+
+// DictionaryReader that memory-maps the CSV file and scans its bytes for separators and line ends.
+// Rows are kept as byte offsets into the mapping: word and hint strings are decoded only when a word is requested.
+// Accepts the same separators as CSVDictionaryReader and the same rows as String.split (trailing empty fields
+// are ignored, so a row is valid when it has exactly three fields after them).
+// With parallelism > 1 a large file is split into line-aligned byte ranges parsed by fork-join workers;
+// the chunks are merged in file order, so categories and words keep their first-seen order.
+// Malformed rows are collected per chunk and counted in the load report of the read, with file line numbers.
+@Log4j2
+public class MappedCSVDictionaryReader implements DictionaryReader, AutoCloseable {
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final long MIN_CHUNK_SIZE = 1L << 20;
+    private static final int FIELDS_COUNT = 3;
+
+    private final byte separator;
+    private final int parallelism;
+    private final Arena arena;
+    private final List<MemorySegment> sources;
+    private final IntArrayList sourceFirstRows;
+    private final List<String> categories;
+    private final Map<String, Integer> categoryOrdinals;
+    private final List<IntArrayList> categoryRows;  // row indices by category ordinal
+    private final IntArrayList rowCategories;
+    private final LongArrayList rowStarts;  // offset of the word field
+    private final IntArrayList hintOffsets;  // relative to the row start
+    private final IntArrayList rowLengths;
+    private final WordSelector wordSelector;
+    private LoadReport loadReport;
+    private DifficultyIndex difficultyIndex;  // built on demand, dropped by every read
+
+    public MappedCSVDictionaryReader(String separator) {
+        this(separator, 1);
+    }
+
+    public MappedCSVDictionaryReader(String separator, int parallelism) {
+        this(separator, parallelism, new ThreadLocalWordSelector());
+    }
+
+    public MappedCSVDictionaryReader(String separator, int parallelism, WordSelector wordSelector) {
+        this.separator = separatorByte(separator);
+        this.parallelism = Math.max(parallelism, 1);
+        this.arena = Arena.ofShared();
+        this.sources = new ArrayList<>();
+        this.sourceFirstRows = new IntArrayList();
+        this.categories = new ArrayList<>();
+        this.categoryOrdinals = new HashMap<>();
+        this.categoryRows = new ArrayList<>();
+        this.rowCategories = new IntArrayList();
+        this.rowStarts = new LongArrayList();
+        this.hintOffsets = new IntArrayList();
+        this.rowLengths = new IntArrayList();
+        this.wordSelector = wordSelector;
+    }
+
+    static byte separatorByte(String separator) {
+        return switch (separator) {
+            case CSVDictionaryReader.COMMA -> ',';
+            case CSVDictionaryReader.SEMICOLON -> ';';
+            case CSVDictionaryReader.TAB -> '\t';
+            case CSVDictionaryReader.VERTICAL_BAR -> '|';
+            default -> {
+                if (separator.length() != 1 || separator.charAt(0) > Byte.MAX_VALUE) {
+                    throw new IllegalArgumentException("Unsupported separator: " + separator);
+                }
+                yield (byte) separator.charAt(0);
+            }
+        };
+    }
+
+    @Override
+    public void readFromFile(String path) throws IOException {
+        dropDifficultyIndex();
+        MemorySegment segment;
+        try (FileChannel channel = FileChannel.open(Path.of(path), StandardOpenOption.READ)) {
+            segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+        }
+        long startNanos = System.nanoTime();
+        int rowsCount = parse(segment, path);
+        long elapsedNanos = Math.max(System.nanoTime() - startNanos, 1);
+        log.info("Parsed {} rows of {} in {} ms ({} rows/s)", rowsCount, path, elapsedNanos / 1_000_000,
+            rowsCount * 1_000_000_000L / elapsedNanos);
+        loadReport.log();
+    }
+
+    @Override
+    public void readFromInputStream(InputStream inputStream) {
+        dropDifficultyIndex();
+        try {
+            parse(MemorySegment.ofArray(inputStream.readAllBytes()), "input stream");
+            loadReport.log();
+        } catch (IOException e) {
+            log.error("Error reading CSV file", e);
+        }
+    }
+
+    @Override
+    public List<String> getCategories() {
+        return categories;
+    }
+
+    @Override
+    public List<DictionaryWord> getWordsInCategory(String category) {
+        Integer ordinal = categoryOrdinals.get(category);
+        return ordinal != null ? new WordsView(categoryRows.get(ordinal)) : null;
+    }
+
+    @Override
+    public DictionaryWord getRandomWordInCategory(String category) {
+        Integer ordinal = categoryOrdinals.get(category);
+        if (ordinal != null) {
+            IntArrayList rows = categoryRows.get(ordinal);
+            return word(rows.getInt(wordSelector.select(category, rows.size())));
+        } else {
+            return null;
+        }
+    }
+
+    // Difficulty buckets of all words read so far, built on the first call after a read
+    @Override
+    public synchronized DifficultyIndex getDifficultyIndex() {
+        if (difficultyIndex == null) {
+            difficultyIndex = DifficultyIndex.of(this);
+        }
+        return difficultyIndex;
+    }
+
+    private synchronized void dropDifficultyIndex() {
+        difficultyIndex = null;
+    }
+
+    // Report of the last read, or null before the first one
+    public LoadReport getLoadReport() {
+        return loadReport;
+    }
+
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    private int parse(MemorySegment segment, String source) {
+        loadReport = new LoadReport(source, false);
+        long size = segment.byteSize();
+        int chunksCount = (int) Math.min(parallelism, Math.max(size / MIN_CHUNK_SIZE, 1));
+        List<ChunkParser> parsers = new ArrayList<>(chunksCount);
+        long chunkStart = 0;
+        for (int i = 1; i <= chunksCount; ++i) {
+            long chunkEnd = i == chunksCount ? size : nextLineStart(segment, size * i / chunksCount);
+            if (chunkEnd > chunkStart) {
+                parsers.add(new ChunkParser(segment, chunkStart, chunkEnd, separator));
+            }
+            chunkStart = Math.max(chunkStart, chunkEnd);
+        }
+        if (parsers.size() > 1) {
+            ForkJoinTask.invokeAll(parsers);
+        } else {
+            parsers.forEach(ForkJoinTask::invoke);
+        }
+
+        sources.add(segment);
+        sourceFirstRows.add(rowStarts.size());
+        int rowsCount = 0;
+        long firstLineNumber = 0;
+        for (ChunkParser parser : parsers) {
+            Chunk chunk = parser.join();
+            merge(chunk);
+            rowsCount += chunk.rowStarts.size();
+            for (int i = 0; i < chunk.errorKinds.size(); ++i) {
+                loadReport.error(chunk.errorKinds.get(i), firstLineNumber + chunk.errorLineNumbers.getLong(i));
+            }
+            firstLineNumber += chunk.linesCount;
+        }
+        loadReport.rows(rowsCount);
+        return rowsCount;
+    }
+
+    private static long nextLineStart(MemorySegment segment, long offset) {
+        long position = offset;
+        while (position < segment.byteSize() && segment.get(ValueLayout.JAVA_BYTE, position) != LINE_FEED) {
+            position++;
+        }
+        return Math.min(position + 1, segment.byteSize());
+    }
+
+    private void merge(Chunk chunk) {
+        int[] ordinals = new int[chunk.categories.size()];
+        for (int i = 0; i < ordinals.length; ++i) {
+            String category = chunk.categories.get(i);
+            ordinals[i] = categoryOrdinals.computeIfAbsent(category, k -> {
+                categories.add(category);
+                categoryRows.add(new IntArrayList());
+                return categories.size() - 1;
+            });
+        }
+        int firstRow = rowStarts.size();
+        for (int i = 0; i < chunk.rowCategories.size(); ++i) {
+            int ordinal = ordinals[chunk.rowCategories.getInt(i)];
+            categoryRows.get(ordinal).add(firstRow + i);
+            rowCategories.add(ordinal);
+        }
+        rowStarts.addAll(chunk.rowStarts);
+        hintOffsets.addAll(chunk.hintOffsets);
+        rowLengths.addAll(chunk.rowLengths);
+    }
+
+    private DictionaryWord word(int row) {
+        int source = sourceFirstRows.size() - 1;
+        while (sourceFirstRows.getInt(source) > row) {
+            source--;
+        }
+        MemorySegment segment = sources.get(source);
+        long rowStart = rowStarts.getLong(row);
+        int hintOffset = hintOffsets.getInt(row);
+        return new DictionaryWord(
+            categories.get(rowCategories.getInt(row)),
+            decode(segment, rowStart, hintOffset - 1),
+            decode(segment, rowStart + hintOffset, rowLengths.getInt(row) - hintOffset)
+        );
+    }
+
+    private static String decode(MemorySegment segment, long offset, int length) {
+        byte[] bytes = new byte[length];
+        MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, offset, bytes, 0, length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Rows of one byte range with chunk-local category ordinals
+    private static final class Chunk {
+        private final List<String> categories = new ArrayList<>();
+        private final Map<String, Integer> categoryOrdinals = new HashMap<>();
+        private final IntArrayList rowCategories = new IntArrayList();
+        private final LongArrayList rowStarts = new LongArrayList();
+        private final IntArrayList hintOffsets = new IntArrayList();
+        private final IntArrayList rowLengths = new IntArrayList();
+        private final List<LoadReport.ErrorKind> errorKinds = new ArrayList<>();
+        private final LongArrayList errorLineNumbers = new LongArrayList();  // within the chunk, from 1
+        private long linesCount;
+    }
+
+    private static final class ChunkParser extends RecursiveTask<Chunk> {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final transient MemorySegment segment;
+        private final long from;
+        private final long to;
+        private final byte separator;
+
+        ChunkParser(MemorySegment segment, long from, long to, byte separator) {
+            this.segment = segment;
+            this.from = from;
+            this.to = to;
+            this.separator = separator;
+        }
+
+        @Override
+        protected Chunk compute() {
+            Chunk chunk = new Chunk();
+            int lastOrdinal = -1;
+            long lastCategoryStart = 0;
+            int lastCategoryLength = -1;
+
+            long lineStart = from;
+            while (lineStart < to) {
+                chunk.linesCount++;
+                long lineEnd = lineStart;
+                while (lineEnd < to && segment.get(ValueLayout.JAVA_BYTE, lineEnd) != LINE_FEED) {
+                    lineEnd++;
+                }
+                long contentEnd = lineEnd;
+                if (contentEnd > lineStart && segment.get(ValueLayout.JAVA_BYTE, contentEnd - 1) == CARRIAGE_RETURN) {
+                    contentEnd--;
+                }
+                long fieldsEnd = contentEnd;
+                while (fieldsEnd > lineStart && segment.get(ValueLayout.JAVA_BYTE, fieldsEnd - 1) == separator) {
+                    fieldsEnd--;
+                }
+
+                long firstSeparator = -1;
+                long secondSeparator = -1;
+                int separatorsCount = 0;
+                for (long i = lineStart; i < fieldsEnd; ++i) {
+                    if (segment.get(ValueLayout.JAVA_BYTE, i) == separator) {
+                        if (separatorsCount == 0) {
+                            firstSeparator = i;
+                        } else {
+                            secondSeparator = i;
+                        }
+                        separatorsCount++;
+                    }
+                }
+
+                if (separatorsCount == 2) {
+                    int categoryLength = (int) (firstSeparator - lineStart);
+                    if (categoryLength != lastCategoryLength
+                        || !sameBytes(segment, lastCategoryStart, lineStart, categoryLength)) {
+                        String category = decode(segment, lineStart, categoryLength);
+                        lastOrdinal = chunk.categoryOrdinals.computeIfAbsent(category, k -> {
+                            chunk.categories.add(category);
+                            return chunk.categories.size() - 1;
+                        });
+                        lastCategoryStart = lineStart;
+                        lastCategoryLength = categoryLength;
+                    }
+                    chunk.rowCategories.add(lastOrdinal);
+                    chunk.rowStarts.add(firstSeparator + 1);
+                    chunk.hintOffsets.add((int) (secondSeparator - firstSeparator));
+                    chunk.rowLengths.add((int) (fieldsEnd - firstSeparator - 1));
+                } else {
+                    int fieldsCount = fieldsEnd > lineStart ? separatorsCount + 1 : 0;
+                    chunk.errorKinds.add(LoadReport.errorKind(contentEnd - lineStart, fieldsCount, FIELDS_COUNT));
+                    chunk.errorLineNumbers.add(chunk.linesCount);
+                }
+                lineStart = lineEnd + 1;
+            }
+            return chunk;
+        }
+
+        // The static MemorySegment.mismatch reports any two ranges as equal when both arguments are the same
+        // segment, so the bytes of the two categories are compared one by one
+        private static boolean sameBytes(MemorySegment segment, long first, long second, int length) {
+            for (int i = 0; i < length; ++i) {
+                if (segment.get(ValueLayout.JAVA_BYTE, first + i) != segment.get(ValueLayout.JAVA_BYTE, second + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private final class WordsView extends AbstractList<DictionaryWord> {
+        private final IntArrayList rows;
+
+        WordsView(IntArrayList rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public DictionaryWord get(int index) {
+            return word(rows.getInt(index));
+        }
+
+        @Override
+        public int size() {
+            return rows.size();
+        }
+    }
+}
@@ -5,19 +5,38 @@ import java.util.List;
 public interface Model {
     Model createModel(DictionaryWord secretWord, int maxMissesCount);
 
+    // Starts a new round on this instance, reusing its already allocated state
+    void reset(DictionaryWord secretWord, int maxMissesCount);
+
     void guess(char letter);
 
+    // Writes this round into CompactState.LONGS_PER_STATE longs starting at offset
+    void encode(int wordId, long[] states, int offset);
+
+    // Restores a round written by encode; the caller resolves CompactState.wordId into the secret word
+    void decode(long[] states, int offset, DictionaryWord secretWord);
+
+    // Applies the letters in order and stops as soon as the game is won or lost
+    GuessBatchResult guessAll(CharSequence letters);
+
     int getMaxMissesCount();
 
     Status getStatus();
 
     List<Character> getMisses();
 
+    // Live views backed by the model's own arrays: reading them neither boxes nor copies
+    CharSequence getMissesView();
+
     int getMissesCount();
 
     List<Character> getHits();
 
+    CharSequence getHitsView();
+
     List<Character> getWordRepresentation();
 
+    CharSequence getWordRepresentationView();
+
     String getSecretWordHint();
 }
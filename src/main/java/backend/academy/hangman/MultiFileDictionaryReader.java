@@ -0,0 +1,272 @@
+package backend.academy.hangman;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import lombok.extern.log4j.Log4j2;
+
+// DictionaryReader over many dictionary files: readFromFile takes a file, a directory (its regular files)
+// or a glob like dictionaries/*.csv or dictionaries/**/*.csv.gz.
+// Every file is parsed by its own CSVDictionaryReader (plain, gzip or block gzip), all of them concurrently,
+// so loading takes about as long as the largest file when there are enough cores. Every file is merged into one
+// CompactDictionary in path order as soon as the files before it are, and its reader is dropped right away.
+// Categories keep their first-seen order, and a word seen again in its category is handled by
+// the DuplicatePolicy: a read indexes the words of the categories it adds to by text, and drops that index
+// when it is over. getFileLoads() has the load time and the row and error counts of every file or stream read.
+@Log4j2
+public class MultiFileDictionaryReader implements DictionaryReader {
+    private static final String GLOB_CHARACTERS = "*?[{";
+
+    public enum DuplicatePolicy {
+        KEEP_ALL,
+        KEEP_FIRST,  // the word of the first file in path order
+        KEEP_LAST    // the hint of the last file in path order, at the position of the first occurrence
+    }
+
+    // path is null for an input stream
+    public record FileLoad(Path path, long loadNanos, long rowsCount, long errorsCount) {
+    }
+
+    private final String separator;
+    private final DuplicatePolicy duplicatePolicy;
+    private final WordSelector wordSelector;
+    private final CompactDictionary dictionary;
+    private final LetterStatistics letterStatistics;
+    private DifficultyIndex difficultyIndex;  // built on demand, dropped by every read
+    private final List<FileLoad> fileLoads;
+    private long duplicatesCount;
+
+    public MultiFileDictionaryReader(String separator) {
+        this(separator, DuplicatePolicy.KEEP_FIRST);
+    }
+
+    public MultiFileDictionaryReader(String separator, DuplicatePolicy duplicatePolicy) {
+        this(separator, duplicatePolicy, new ThreadLocalWordSelector());
+    }
+
+    public MultiFileDictionaryReader(String separator, DuplicatePolicy duplicatePolicy, WordSelector wordSelector) {
+        this.separator = separator;
+        this.duplicatePolicy = duplicatePolicy;
+        this.wordSelector = wordSelector;
+        this.dictionary = new CompactDictionary();
+        this.letterStatistics = new LetterStatistics();
+        this.fileLoads = new ArrayList<>();
+    }
+
+    @Override
+    public void readFromFile(String path) throws IOException {
+        dropDifficultyIndex();
+        List<Path> files = resolve(path);
+        if (files.isEmpty()) {
+            log.warn("No dictionary files match {}", path);
+            return;
+        }
+        long startNanos = System.nanoTime();
+        ExecutorService executor =
+            Executors.newFixedThreadPool(Math.min(files.size(), Runtime.getRuntime().availableProcessors()));
+        try {
+            List<Future<Loaded>> loads = new ArrayList<>(files.size());
+            for (Path file : files) {
+                loads.add(executor.submit(() -> load(file)));
+            }
+            long duplicatesBefore = duplicatesCount;
+            Map<String, Object2IntOpenHashMap<String>> wordPositions = new HashMap<>();
+            for (int i = 0; i < loads.size(); ++i) {
+                Loaded file = loads.get(i).get();
+                // Only the readers of files not merged yet stay reachable
+                loads.set(i, null);
+                merge(file.dictionaryReader(), wordPositions);
+                fileLoads.add(file.fileLoad());
+                log.info("Loaded {} in {} ms: {} rows, {} malformed lines", file.fileLoad().path(),
+                    file.fileLoad().loadNanos() / 1_000_000, file.fileLoad().rowsCount(),
+                    file.fileLoad().errorsCount());
+            }
+            log.info("Loaded and merged {} files in {} ms ({} duplicate words, {})", files.size(),
+                (System.nanoTime() - startNanos) / 1_000_000, duplicatesCount - duplicatesBefore, duplicatePolicy);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } finally {
+            // Stops the other loads after a failure
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public void readFromInputStream(InputStream inputStream) {
+        dropDifficultyIndex();
+        long startNanos = System.nanoTime();
+        CSVDictionaryReader dictionaryReader = new CSVDictionaryReader(separator);
+        dictionaryReader.readFromInputStream(inputStream);
+        long duplicatesBefore = duplicatesCount;
+        merge(dictionaryReader, new HashMap<>());
+        LoadReport loadReport = dictionaryReader.getLoadReport();
+        FileLoad fileLoad = new FileLoad(null, System.nanoTime() - startNanos, loadReport.rowsCount(),
+            loadReport.errorsCount());
+        fileLoads.add(fileLoad);
+        log.info("Loaded and merged input stream in {} ms: {} rows, {} malformed lines ({} duplicate words, {})",
+            fileLoad.loadNanos() / 1_000_000, fileLoad.rowsCount(), fileLoad.errorsCount(),
+            duplicatesCount - duplicatesBefore, duplicatePolicy);
+    }
+
+    @Override
+    public List<String> getCategories() {
+        return dictionary.getCategories();
+    }
+
+    @Override
+    public List<DictionaryWord> getWordsInCategory(String category) {
+        return dictionary.getWordsInCategory(category);
+    }
+
+    @Override
+    public DictionaryWord getRandomWordInCategory(String category) {
+        List<DictionaryWord> words = dictionary.getWordsInCategory(category);
+        return words != null ? words.get(wordSelector.select(category, words.size())) : null;
+    }
+
+    // Letter counts of all words merged so far
+    public LetterStatistics getLetterStatistics() {
+        return letterStatistics;
+    }
+
+    // Difficulty buckets of all words merged so far, built from the letter statistics on the first call after a read
+    @Override
+    public synchronized DifficultyIndex getDifficultyIndex() {
+        if (difficultyIndex == null) {
+            difficultyIndex = DifficultyIndex.of(this, letterStatistics);
+        }
+        return difficultyIndex;
+    }
+
+    private synchronized void dropDifficultyIndex() {
+        difficultyIndex = null;
+    }
+
+    // Loads of all files and streams read so far, in read and path order
+    public List<FileLoad> getFileLoads() {
+        return Collections.unmodifiableList(fileLoads);
+    }
+
+    // Words seen again in their category and dropped or merged; always 0 with KEEP_ALL
+    public long getDuplicatesCount() {
+        return duplicatesCount;
+    }
+
+    // The regular files of a directory, the files matching a glob, or the file itself, sorted
+    static List<Path> resolve(String path) throws IOException {
+        String normalized = path.replace('\\', '/');
+        int globStart = indexOfAny(normalized, GLOB_CHARACTERS);
+        if (globStart < 0) {
+            Path file = Path.of(path);
+            if (!Files.isDirectory(file)) {
+                if (!Files.exists(file)) {
+                    throw new NoSuchFileException(path);
+                }
+                return List.of(file);
+            }
+            try (Stream<Path> files = Files.list(file)) {
+                return files.filter(Files::isRegularFile).sorted().toList();
+            }
+        }
+        int baseEnd = normalized.lastIndexOf('/', globStart);
+        Path base = Path.of(baseEnd < 0 ? "." : normalized.substring(0, Math.max(baseEnd, 1)));
+        String pattern = normalized.substring(baseEnd + 1);
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+        int maxDepth = pattern.contains("**") ? Integer.MAX_VALUE : pattern.split("/").length;
+        if (!Files.isDirectory(base)) {
+            throw new NoSuchFileException(base.toString());
+        }
+        try (Stream<Path> files = Files.walk(base, maxDepth)) {
+            return files
+                .filter(file -> Files.isRegularFile(file) && matcher.matches(base.relativize(file)))
+                .sorted()
+                .toList();
+        }
+    }
+
+    private static int indexOfAny(String text, String characters) {
+        for (int i = 0; i < text.length(); ++i) {
+            if (characters.indexOf(text.charAt(i)) >= 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Loaded load(Path file) throws IOException {
+        long startNanos = System.nanoTime();
+        CSVDictionaryReader dictionaryReader = new CSVDictionaryReader(separator);
+        dictionaryReader.readFromFile(file.toString());
+        LoadReport loadReport = dictionaryReader.getLoadReport();
+        return new Loaded(dictionaryReader, new FileLoad(file, System.nanoTime() - startNanos,
+            loadReport.rowsCount(), loadReport.errorsCount()));
+    }
+
+    // wordPositions holds the positions of the words by text for the categories merged into during the read
+    private void merge(Dictionary source, Map<String, Object2IntOpenHashMap<String>> wordPositions) {
+        for (String category : source.getCategories()) {
+            if (duplicatePolicy == DuplicatePolicy.KEEP_ALL) {
+                for (DictionaryWord word : source.getWordsInCategory(category)) {
+                    add(category, word);
+                }
+                continue;
+            }
+            // Every word of the category is in the map, so its size is the position of the next word
+            Object2IntOpenHashMap<String> positions = wordPositions.computeIfAbsent(category, this::positionsOf);
+            for (DictionaryWord word : source.getWordsInCategory(category)) {
+                int position = positions.putIfAbsent(word.word(), positions.size());
+                if (position < 0) {
+                    add(category, word);
+                } else {
+                    duplicatesCount++;
+                    if (duplicatePolicy == DuplicatePolicy.KEEP_LAST) {
+                        dictionary.replace(category, position, word.word(), word.hint());
+                    }
+                }
+            }
+        }
+    }
+
+    // Positions of the words merged into the category by earlier reads
+    private Object2IntOpenHashMap<String> positionsOf(String category) {
+        Object2IntOpenHashMap<String> positions = new Object2IntOpenHashMap<>();
+        positions.defaultReturnValue(-1);
+        List<DictionaryWord> words = dictionary.getWordsInCategory(category);
+        if (words != null) {
+            for (DictionaryWord word : words) {
+                positions.put(word.word(), positions.size());
+            }
+        }
+        return positions;
+    }
+
+    // KEEP_LAST replaces only the hint of a word, so the letter statistics of replaced words stay as they are
+    private void add(String category, DictionaryWord word) {
+        dictionary.add(category, word.word(), word.hint());
+        letterStatistics.add(category, word.word());
+    }
+
+    private record Loaded(CSVDictionaryReader dictionaryReader, FileLoad fileLoad) {
+    }
+}
@@ -0,0 +1,147 @@
+package backend.academy.hangman;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.log4j.Log4j2;
+
+// DictionaryReader that reloads its file whenever it changes on disk.
+// Readers only see an immutable DictionarySnapshot published through one volatile field: a reload parses into a new
+// snapshot on the watcher thread and swaps it in, so lookups never block and never see a half-built dictionary.
+// A failed reload keeps the current dictionary. Every read replaces the dictionary instead of adding to it,
+// and only the file of the last read is watched. Replace the file atomically (write aside, then move),
+// otherwise a reload may pick up a partly written file.
+@Log4j2
+public class ReloadingDictionaryReader implements DictionaryReader, AutoCloseable {
+    private final String separator;
+    private final WordSelector wordSelector;
+    private final AtomicLong reloadsCount;
+    private volatile DictionarySnapshot snapshot;
+    private WatchService watchService;
+    private Thread watcher;
+
+    public ReloadingDictionaryReader(String separator) {
+        this(separator, new ThreadLocalWordSelector());
+    }
+
+    public ReloadingDictionaryReader(String separator, WordSelector wordSelector) {
+        this.separator = separator;
+        this.wordSelector = wordSelector;
+        this.reloadsCount = new AtomicLong();
+        this.snapshot = DictionarySnapshot.of(new CSVDictionaryReader(separator), wordSelector);
+    }
+
+    @Override
+    public synchronized void readFromFile(String path) throws IOException {
+        Path file = Path.of(path).toAbsolutePath();
+        snapshot = load(file);
+        stopWatching();
+        watchService = FileSystems.getDefault().newWatchService();
+        file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+            StandardWatchEventKinds.ENTRY_MODIFY);
+        WatchService service = watchService;
+        watcher = Thread.ofPlatform().daemon().name("dictionary-watcher").start(() -> watch(service, file));
+    }
+
+    @Override
+    public synchronized void readFromInputStream(InputStream inputStream) {
+        DictionaryReader dictionaryReader = new CSVDictionaryReader(separator);
+        dictionaryReader.readFromInputStream(inputStream);
+        snapshot = DictionarySnapshot.of(dictionaryReader, wordSelector);
+        try {
+            stopWatching();
+        } catch (IOException e) {
+            log.error("Error closing watch service", e);
+        }
+    }
+
+    @Override
+    public List<String> getCategories() {
+        return snapshot.getCategories();
+    }
+
+    @Override
+    public List<DictionaryWord> getWordsInCategory(String category) {
+        return snapshot.getWordsInCategory(category);
+    }
+
+    @Override
+    public DictionaryWord getRandomWordInCategory(String category) {
+        return snapshot.getRandomWordInCategory(category);
+    }
+
+    @Override
+    public DifficultyIndex getDifficultyIndex() {
+        return snapshot.getDifficultyIndex();
+    }
+
+    // Number of reloads after changes of the watched file, failed ones excluded
+    public long getReloadsCount() {
+        return reloadsCount.get();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        stopWatching();
+    }
+
+    private DictionarySnapshot load(Path file) throws IOException {
+        CSVDictionaryReader dictionaryReader = new CSVDictionaryReader(separator, wordSelector);
+        dictionaryReader.readFromFile(file.toString());
+        return dictionaryReader.snapshot();
+    }
+
+    private void stopWatching() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+            watcher.interrupt();
+            watchService = null;
+            watcher = null;
+        }
+    }
+
+    private void watch(WatchService service, Path file) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    changed |= file.getFileName().equals(event.context())
+                        || event.kind() == StandardWatchEventKinds.OVERFLOW;
+                }
+                key.reset();
+                if (changed) {
+                    reload(service, file);
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            log.debug("Stopped watching {}", file);
+        }
+    }
+
+    private void reload(WatchService service, Path file) {
+        try {
+            DictionarySnapshot reloaded = load(file);
+            synchronized (this) {
+                // A newer readFromFile wins over a late reload of the file it stopped watching
+                if (watchService != service) {
+                    return;
+                }
+                snapshot = reloaded;
+            }
+            reloadsCount.incrementAndGet();
+            log.info("Reloaded {}: {} words in {} categories", file, reloaded.getWordIndex().size(),
+                reloaded.getCategories().size());
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to reload {}, keeping the current dictionary", file, e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package backend.academy.hangman;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Uniform selection that is reproducible for a seed: the n-th call returns the same index in every run.
+// The index is a SplitMix64 mix of the seed and the call number, so the only shared state is a counter.
+@SuppressWarnings("MagicNumber")
+public class SeededWordSelector implements WordSelector {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private final AtomicLong calls;
+
+    public SeededWordSelector(long seed) {
+        this.seed = seed;
+        this.calls = new AtomicLong();
+    }
+
+    @Override
+    public int select(String category, int wordsCount) {
+        long mixed = mix(seed + calls.getAndIncrement() * GOLDEN_GAMMA);
+        return (int) ((mixed >>> 32) * wordsCount >>> 32);
+    }
+
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
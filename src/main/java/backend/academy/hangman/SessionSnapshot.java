@@ -0,0 +1,192 @@
+package backend.academy.hangman;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.ToIntFunction;
+
+// Memory-mapped file of fixed-size session records sorted by session id:
+//   header: magic | version | records count | last session id
+//   record: session id | CompactState long 0 | CompactState long 1
+// Opening only maps the file, read-only; a record is decoded when its session is first looked up (binary search),
+// and is then marked as taken in memory so an ended session is never resumed twice. The file itself never
+// changes, so it can be resumed again after another crash.
+public final class SessionSnapshot implements AutoCloseable {
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final long MAGIC = 0x48414E474D414E53L;  // "HANGMANS"
+    private static final long VERSION = 2L;
+    private static final long HEADER_SIZE = 4 * Long.BYTES;
+    private static final long RECORD_SIZE = (1 + CompactState.LONGS_PER_STATE) * Long.BYTES;
+    private static final long COUNT_OFFSET = 2 * Long.BYTES;
+    private static final long LAST_SESSION_ID_OFFSET = 3 * Long.BYTES;
+    private static final long STATE_OFFSET = Long.BYTES;
+
+    private final Arena arena;
+    private final MemorySegment segment;
+    private final int recordsCount;
+    private final BitSet taken;  // by record index
+
+    private SessionSnapshot(Arena arena, MemorySegment segment) {
+        this.arena = arena;
+        this.segment = segment;
+        this.recordsCount = (int) segment.get(LONG, COUNT_OFFSET);
+        this.taken = new BitSet(recordsCount);
+    }
+
+    public static SessionSnapshot open(Path path) throws IOException {
+        Arena arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            if (segment.byteSize() < HEADER_SIZE
+                || segment.get(LONG, 0) != MAGIC
+                || segment.get(LONG, Long.BYTES) != VERSION
+                || segment.get(LONG, COUNT_OFFSET) > Integer.MAX_VALUE
+                || segment.byteSize() != HEADER_SIZE + segment.get(LONG, COUNT_OFFSET) * RECORD_SIZE) {
+                throw new IOException("Not a session snapshot: " + path);
+            }
+            return new SessionSnapshot(arena, segment);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    // Writes all live sessions of the manager (and its not yet resumed snapshot sessions) to path.
+    // The file is written aside and moved into place, so a snapshot mapped from the same path stays valid.
+    public static void write(Path path, GameSessionManager manager, ToIntFunction<DictionaryWord> wordIds)
+        throws IOException {
+        // No session is restored during both passes, otherwise one restored and ended in between would be
+        // written back as pending. Should a session still be seen twice, the live copy wins below
+        SessionRecords records = new SessionRecords();
+        manager.pausingRestores(() -> {
+            SessionSnapshot resumed = manager.getResumedSnapshot();
+            if (resumed != null) {
+                resumed.forEachPending(records);
+            }
+            manager.forEachSession((hangman, sessionId) -> {
+                records.add(sessionId);
+                hangman.encode(wordIds.applyAsInt(hangman.getSecretWord()), records.states, records.stateOffset());
+            });
+        });
+        int[] order = new int[records.count];
+        for (int i = 0; i < order.length; ++i) {
+            order[i] = i;
+        }
+        IntArrays.quickSort(order, (a, b) -> {
+            int byId = Long.compare(records.sessionIds[a], records.sessionIds[b]);
+            return byId != 0 ? byId : Integer.compare(b, a);
+        });
+        int uniqueCount = 0;
+        for (int i = 0; i < order.length; ++i) {
+            if (i == 0 || records.sessionIds[order[i]] != records.sessionIds[order[i - 1]]) {
+                order[uniqueCount++] = order[i];
+            }
+        }
+
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (Arena arena = Arena.ofConfined();
+             FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                 StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long size = HEADER_SIZE + uniqueCount * RECORD_SIZE;
+            MemorySegment segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, size, arena);
+            segment.set(LONG, 0, MAGIC);
+            segment.set(LONG, Long.BYTES, VERSION);
+            segment.set(LONG, COUNT_OFFSET, uniqueCount);
+            segment.set(LONG, LAST_SESSION_ID_OFFSET, manager.getLastSessionId());
+            long offset = HEADER_SIZE;
+            for (int k = 0; k < uniqueCount; ++k) {
+                int i = order[k];
+                segment.set(LONG, offset, records.sessionIds[i]);
+                for (int j = 0; j < CompactState.LONGS_PER_STATE; ++j) {
+                    segment.set(LONG, offset + STATE_OFFSET + (long) j * Long.BYTES,
+                        records.states[i * CompactState.LONGS_PER_STATE + j]);
+                }
+                offset += RECORD_SIZE;
+            }
+            segment.force();
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public long getSessionsCount() {
+        return recordsCount;
+    }
+
+    public long getLastSessionId() {
+        return segment.get(LONG, LAST_SESSION_ID_OFFSET);
+    }
+
+    // Copies the session state into states[offset..] and marks the record as taken.
+    // Returns false if there is no such session or it was already taken.
+    synchronized boolean take(long sessionId, long[] states, int offset) {
+        int low = 0;
+        int high = recordsCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long recordOffset = HEADER_SIZE + middle * RECORD_SIZE;
+            long middleId = segment.get(LONG, recordOffset);
+            if (middleId < sessionId) {
+                low = middle + 1;
+            } else if (middleId > sessionId) {
+                high = middle - 1;
+            } else {
+                if (taken.get(middle)) {
+                    return false;
+                }
+                readState(recordOffset, states, offset);
+                taken.set(middle);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    private synchronized void forEachPending(SessionRecords records) {
+        for (int i = taken.nextClearBit(0); i < recordsCount; i = taken.nextClearBit(i + 1)) {
+            long recordOffset = HEADER_SIZE + (long) i * RECORD_SIZE;
+            records.add(segment.get(LONG, recordOffset));
+            readState(recordOffset, records.states, records.stateOffset());
+        }
+    }
+
+    private void readState(long recordOffset, long[] states, int offset) {
+        for (int j = 0; j < CompactState.LONGS_PER_STATE; ++j) {
+            states[offset + j] = segment.get(LONG, recordOffset + STATE_OFFSET + (long) j * Long.BYTES);
+        }
+    }
+
+    private static final class SessionRecords {
+        private static final int INITIAL_CAPACITY = 16;
+
+        private long[] sessionIds = new long[INITIAL_CAPACITY];
+        private long[] states = new long[sessionIds.length * CompactState.LONGS_PER_STATE];
+        private int count;
+
+        void add(long sessionId) {
+            if (count == sessionIds.length) {
+                sessionIds = Arrays.copyOf(sessionIds, count * 2);
+                states = Arrays.copyOf(states, count * 2 * CompactState.LONGS_PER_STATE);
+            }
+            sessionIds[count++] = sessionId;
+        }
+
+        int stateOffset() {
+            return (count - 1) * CompactState.LONGS_PER_STATE;
+        }
+    }
+}
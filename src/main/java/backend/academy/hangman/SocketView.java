@@ -0,0 +1,11 @@
+package backend.academy.hangman;
+
+import java.io.IOException;
+import java.net.Socket;
+
+// ConsoleView conversation over a TCP connection: the client sees the same screens as a local player
+public class SocketView extends ConsoleView {
+    public SocketView(Socket socket) throws IOException {
+        super(socket.getInputStream(), socket.getOutputStream());
+    }
+}
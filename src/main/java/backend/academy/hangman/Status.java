@@ -21,6 +21,16 @@ public class Status {
         WIN
     }
 
+    private static final Status[][] STATUSES = new Status[GuessStatus.values().length][GameStatus.values().length];
+
+    static {
+        for (GuessStatus guessStatus : GuessStatus.values()) {
+            for (GameStatus gameStatus : GameStatus.values()) {
+                STATUSES[guessStatus.ordinal()][gameStatus.ordinal()] = new Status(guessStatus, gameStatus);
+            }
+        }
+    }
+
     private final GuessStatus guessStatus;
     private final GameStatus gameStatus;
 
@@ -28,4 +38,9 @@ public class Status {
         this.guessStatus = guessStatus;
         this.gameStatus = gameStatus;
     }
+
+    // Canonical instance for the combination, safe to compare by identity
+    public static Status of(GuessStatus guessStatus, GameStatus gameStatus) {
+        return STATUSES[guessStatus.ordinal()][gameStatus.ordinal()];
+    }
 }
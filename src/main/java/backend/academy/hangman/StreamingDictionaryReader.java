@@ -0,0 +1,202 @@
+package backend.academy.hangman;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import lombok.extern.log4j.Log4j2;
+
+// DictionaryReader that can be used while it is still loading. loadAsync parses the file on a background thread
+// and makes every word visible as soon as it is parsed:
+//   - the getters return what has been parsed so far (getCategories first waits for the first category);
+//   - categoryReady completes when the first word of a category has been parsed;
+//   - words() publishes every parsed word to its subscribers and completes when loading does; a subscriber that
+//     stops requesting words holds loading back once its buffer is full.
+// Parses rows like CSVDictionaryReader into a CompactDictionary guarded by its own monitor: while loading,
+// getWordsInCategory returns a copy of the words parsed so far, and once loading is done the words never change,
+// so it returns them as they are. A reader loads a single file or stream.
+@Log4j2
+public class StreamingDictionaryReader implements DictionaryReader {
+    private final String separator;
+    private final WordSelector wordSelector;
+    private final List<String> categories;
+    private final CompactDictionary dictionary;
+    private final LetterStatistics letterStatistics;
+    private DifficultyIndex difficultyIndex;  // built on the first request after loading is done
+    private final Map<String, CompletableFuture<Boolean>> readiness;
+    private final CompletableFuture<Void> firstCategory;
+    private final CompletableFuture<Void> loading;
+    private final SubmissionPublisher<DictionaryWord> publisher;
+    private boolean started;
+
+    public StreamingDictionaryReader(String separator) {
+        this(separator, new ThreadLocalWordSelector());
+    }
+
+    public StreamingDictionaryReader(String separator, WordSelector wordSelector) {
+        this.separator = separator;
+        this.wordSelector = wordSelector;
+        this.categories = new CopyOnWriteArrayList<>();
+        this.dictionary = new CompactDictionary();
+        this.letterStatistics = new LetterStatistics();
+        this.readiness = new ConcurrentHashMap<>();
+        this.firstCategory = new CompletableFuture<>();
+        this.loading = new CompletableFuture<>();
+        this.publisher = new SubmissionPublisher<>();
+    }
+
+    // Opens the file and parses it on a background thread; the returned future completes when it is fully parsed
+    public synchronized CompletableFuture<Void> loadAsync(String path) throws IOException {
+        if (started) {
+            throw new IllegalStateException("Streaming dictionary is already loading");
+        }
+        InputStream opened = Files.newInputStream(Path.of(path));
+        started = true;
+        Thread.ofPlatform().daemon().name("dictionary-loader").start(() -> {
+            try (InputStream inputStream = opened) {
+                load(inputStream, path);
+            } catch (IOException | RuntimeException e) {
+                fail(e);
+            }
+        });
+        return loading;
+    }
+
+    @Override
+    public void readFromFile(String path) throws IOException {
+        try {
+            loadAsync(path).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof IOException ioException ? ioException : new IOException(e.getCause());
+        }
+    }
+
+    @Override
+    public void readFromInputStream(InputStream inputStream) {
+        synchronized (this) {
+            if (started) {
+                throw new IllegalStateException("Streaming dictionary is already loading");
+            }
+            started = true;
+        }
+        try {
+            load(inputStream, "input stream");
+        } catch (IOException | RuntimeException e) {
+            log.error("Error reading CSV file", e);
+            fail(e);
+        }
+    }
+
+    // Completes with true once the category has a word, or with false if loading ended without one
+    public CompletableFuture<Boolean> categoryReady(String category) {
+        CompletableFuture<Boolean> ready = readiness.computeIfAbsent(category, k -> new CompletableFuture<>());
+        if (categories.contains(category)) {
+            ready.complete(true);
+        } else if (loading.isDone()) {
+            // Nothing is parsed after loading is done, so the check above was final
+            ready.complete(categories.contains(category));
+        }
+        return ready;
+    }
+
+    public CompletableFuture<Void> getLoading() {
+        return loading;
+    }
+
+    public Flow.Publisher<DictionaryWord> words() {
+        return publisher;
+    }
+
+    // Letter counts of the words parsed so far; complete and safe to read once loading is done
+    public LetterStatistics getLetterStatistics() {
+        return letterStatistics;
+    }
+
+    // Null until loading is done
+    @Override
+    public synchronized DifficultyIndex getDifficultyIndex() {
+        if (difficultyIndex == null && loading.isDone()) {
+            difficultyIndex = DifficultyIndex.of(this, letterStatistics);
+        }
+        return difficultyIndex;
+    }
+
+    // Waits for the first category if loading has started
+    @Override
+    public List<String> getCategories() {
+        boolean waitForFirstCategory;
+        synchronized (this) {
+            waitForFirstCategory = started;
+        }
+        if (waitForFirstCategory) {
+            firstCategory.join();
+        }
+        return Collections.unmodifiableList(categories);
+    }
+
+    @Override
+    public List<DictionaryWord> getWordsInCategory(String category) {
+        if (loading.isDone()) {
+            return dictionary.getWordsInCategory(category);
+        }
+        synchronized (dictionary) {
+            List<DictionaryWord> words = dictionary.getWordsInCategory(category);
+            return words != null ? List.copyOf(words) : null;
+        }
+    }
+
+    @Override
+    public DictionaryWord getRandomWordInCategory(String category) {
+        synchronized (dictionary) {
+            List<DictionaryWord> words = dictionary.getWordsInCategory(category);
+            return words != null ? words.get(wordSelector.select(category, words.size())) : null;
+        }
+    }
+
+    private void load(InputStream inputStream, String source) throws IOException {
+        LoadReport loadReport = new LoadReport(source, false);
+        CSVDictionaryReader.readRows(inputStream, separator, loadReport, this::add);
+        loadReport.log();
+        finish();
+    }
+
+    // Only the loading thread adds words
+    private void add(String[] data) {
+        String category = data[0];
+        boolean newCategory;
+        synchronized (dictionary) {
+            newCategory = dictionary.getWordsInCategory(category) == null;
+            dictionary.add(category, data[1], data[2]);
+            letterStatistics.add(category, data[1]);
+        }
+        if (newCategory) {
+            categories.add(category);
+            readiness.computeIfAbsent(category, k -> new CompletableFuture<>()).complete(true);
+            firstCategory.complete(null);
+        }
+        publisher.submit(new DictionaryWord(category, data[1], data[2]));
+    }
+
+    private void finish() {
+        loading.complete(null);
+        firstCategory.complete(null);
+        readiness.values().forEach(ready -> ready.complete(false));
+        publisher.close();
+    }
+
+    private void fail(Throwable cause) {
+        loading.completeExceptionally(cause);
+        firstCategory.complete(null);
+        readiness.values().forEach(ready -> ready.complete(false));
+        publisher.closeExceptionally(cause);
+    }
+}
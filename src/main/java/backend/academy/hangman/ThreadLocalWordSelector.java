@@ -0,0 +1,11 @@
+package backend.academy.hangman;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// Uniform selection with the generator of the calling thread, so concurrent rounds never share random state
+public class ThreadLocalWordSelector implements WordSelector {
+    @Override
+    public int select(String category, int wordsCount) {
+        return ThreadLocalRandom.current().nextInt(wordsCount);
+    }
+}
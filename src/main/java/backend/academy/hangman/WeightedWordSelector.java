@@ -0,0 +1,106 @@
+package backend.academy.hangman;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToDoubleFunction;
+
+// Selection proportional to a weight of each word (e.g. its frequency) in O(1) per call using Vose alias tables,
+// built once per category of the dictionary. Categories that changed size since then are selected uniformly.
+public class WeightedWordSelector implements WordSelector {
+    private final Map<String, AliasTable> tables;
+
+    // Weights of the words of every category, in the order of its words
+    public WeightedWordSelector(Map<String, double[]> weights) {
+        this.tables = new HashMap<>();
+        weights.forEach((category, categoryWeights) -> {
+            for (int i = 0; i < categoryWeights.length; ++i) {
+                if (!(categoryWeights[i] >= 0) || Double.isInfinite(categoryWeights[i])) {
+                    throw new IllegalArgumentException(
+                        String.format("weight(%s, %d)=%f", category, i, categoryWeights[i]));
+                }
+            }
+            tables.put(category, new AliasTable(categoryWeights));
+        });
+    }
+
+    public WeightedWordSelector(Dictionary dictionary, ToDoubleFunction<DictionaryWord> weight) {
+        this(weights(dictionary, weight));
+    }
+
+    private static Map<String, double[]> weights(
+        Dictionary dictionary, ToDoubleFunction<DictionaryWord> weight
+    ) {
+        Map<String, double[]> weights = new HashMap<>();
+        for (String category : dictionary.getCategories()) {
+            List<DictionaryWord> words = dictionary.getWordsInCategory(category);
+            double[] categoryWeights = new double[words.size()];
+            for (int i = 0; i < categoryWeights.length; ++i) {
+                categoryWeights[i] = weight.applyAsDouble(words.get(i));
+            }
+            weights.put(category, categoryWeights);
+        }
+        return weights;
+    }
+
+    @Override
+    public int select(String category, int wordsCount) {
+        AliasTable table = tables.get(category);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (table == null || table.probabilities.length != wordsCount) {
+            return random.nextInt(wordsCount);
+        }
+        int column = random.nextInt(wordsCount);
+        return random.nextDouble() < table.probabilities[column] ? column : table.aliases[column];
+    }
+
+    private static final class AliasTable {
+        private final double[] probabilities;
+        private final int[] aliases;
+
+        AliasTable(double[] weights) {
+            int size = weights.length;
+            probabilities = new double[size];
+            aliases = new int[size];
+            double total = 0;
+            for (double weight : weights) {
+                total += weight;
+            }
+
+            // Scaled weights below 1 are "small" columns that get topped up by "large" ones
+            double[] scaled = new double[size];
+            int[] small = new int[size];
+            int[] large = new int[size];
+            int smallCount = 0;
+            int largeCount = 0;
+            for (int i = 0; i < size; ++i) {
+                scaled[i] = total > 0 ? weights[i] * size / total : 1;
+                if (scaled[i] < 1) {
+                    small[smallCount++] = i;
+                } else {
+                    large[largeCount++] = i;
+                }
+            }
+            while (smallCount > 0 && largeCount > 0) {
+                int less = small[--smallCount];
+                int more = large[--largeCount];
+                probabilities[less] = scaled[less];
+                aliases[less] = more;
+                scaled[more] = scaled[more] + scaled[less] - 1;
+                if (scaled[more] < 1) {
+                    small[smallCount++] = more;
+                } else {
+                    large[largeCount++] = more;
+                }
+            }
+            // Leftovers are 1 up to rounding errors
+            while (largeCount > 0) {
+                probabilities[large[--largeCount]] = 1;
+            }
+            while (smallCount > 0) {
+                probabilities[small[--smallCount]] = 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package backend.academy.hangman;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+// Immutable flat array of all words of a dictionary, grouped by category in category order.
+// A category is the range [categoryStarts[i], categoryStarts[i + 1]), so every pick is one array access.
+// The position of a word in the array is its id, e.g. for CompactState and SessionSnapshot.
+public final class WordIndex {
+    private final DictionaryWord[] words;
+    private final int[] categoryStarts;
+    private final List<String> categories;
+    private final Map<String, Integer> categoryIndices;
+    private volatile Map<DictionaryWord, Integer> wordIds;  // built on the first wordId call
+
+    private WordIndex(DictionaryWord[] words, int[] categoryStarts, List<String> categories) {
+        this.words = words;
+        this.categoryStarts = categoryStarts;
+        this.categories = categories;
+        this.categoryIndices = new HashMap<>(categories.size() * 2);
+        for (int i = 0; i < categories.size(); ++i) {
+            categoryIndices.put(categories.get(i), i);
+        }
+    }
+
+    // Empty categories of the dictionary are left out
+    public static WordIndex of(Dictionary dictionary) {
+        List<String> categories = new ArrayList<>();
+        List<DictionaryWord> words = new ArrayList<>();
+        int[] categoryStarts = new int[dictionary.getCategories().size() + 1];
+        for (String category : dictionary.getCategories()) {
+            List<DictionaryWord> wordsInCategory = dictionary.getWordsInCategory(category);
+            if (wordsInCategory != null && !wordsInCategory.isEmpty()) {
+                categoryStarts[categories.size()] = words.size();
+                categories.add(category);
+                words.addAll(wordsInCategory);
+            }
+        }
+        categoryStarts[categories.size()] = words.size();
+        return new WordIndex(words.toArray(DictionaryWord[]::new),
+            Arrays.copyOf(categoryStarts, categories.size() + 1), Collections.unmodifiableList(categories));
+    }
+
+    public List<String> getCategories() {
+        return categories;
+    }
+
+    public int size() {
+        return words.length;
+    }
+
+    public DictionaryWord word(int wordId) {
+        return words[wordId];
+    }
+
+    // Returns -1 if the word is not in the index
+    public int wordId(DictionaryWord word) {
+        Map<DictionaryWord, Integer> ids = wordIds;
+        if (ids == null) {
+            ids = buildWordIds();
+        }
+        return ids.getOrDefault(word, -1);
+    }
+
+    // Only snapshots need ids of words, so loading a dictionary does not pay for the map
+    private synchronized Map<DictionaryWord, Integer> buildWordIds() {
+        if (wordIds == null) {
+            Map<DictionaryWord, Integer> ids = new HashMap<>(words.length * 2);
+            for (int i = words.length - 1; i >= 0; --i) {
+                ids.put(words[i], i);
+            }
+            wordIds = ids;
+        }
+        return wordIds;
+    }
+
+    public List<DictionaryWord> getWordsInCategory(String category) {
+        Integer index = categoryIndices.get(category);
+        if (index == null) {
+            return null;
+        }
+        return Collections.unmodifiableList(
+            Arrays.asList(words).subList(categoryStarts[index], categoryStarts[index + 1]));
+    }
+
+    // Uniform over all words. Returns null if the index is empty
+    public DictionaryWord randomWord(RandomGenerator random) {
+        return words.length != 0 ? words[random.nextInt(words.length)] : null;
+    }
+
+    // Uniform over the words of the category. Returns null if there is no such category
+    public DictionaryWord randomWordInCategory(String category, RandomGenerator random) {
+        Integer index = categoryIndices.get(category);
+        return index != null ? randomWordInCategory(index, random) : null;
+    }
+
+    // Uniform over categories, then over the words of the chosen one. Returns null if the index is empty
+    public DictionaryWord randomWordInRandomCategory(RandomGenerator random) {
+        return !categories.isEmpty() ? randomWordInCategory(random.nextInt(categories.size()), random) : null;
+    }
+
+    private DictionaryWord randomWordInCategory(int index, RandomGenerator random) {
+        return words[random.nextInt(categoryStarts[index], categoryStarts[index + 1])];
+    }
+}
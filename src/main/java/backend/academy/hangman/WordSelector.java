@@ -0,0 +1,7 @@
+package backend.academy.hangman;
+
+// Strategy for picking a word of a category; implementations must be safe to call from many threads at once
+public interface WordSelector {
+    // Returns an index in [0, wordsCount) of the word to play; wordsCount is positive
+    int select(String category, int wordsCount);
+}
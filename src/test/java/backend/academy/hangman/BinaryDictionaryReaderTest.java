@@ -0,0 +1,91 @@
+package backend.academy.hangman;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+public class BinaryDictionaryReaderTest {
+
+    @Test
+    void sameWordsAsCompiledReader(@TempDir Path directory) throws IOException {
+        // Arrange
+        DictionaryReader source = new CSVDictionaryReader(CSVDictionaryReader.VERTICAL_BAR);
+        source.readFromFile("src/main/resources/dictionary.csv");
+        Path path = directory.resolve("dictionary.bin");
+        BinaryDictionaryCompiler.compile(source, path);
+
+        try (BinaryDictionaryReader dictionaryReader = new BinaryDictionaryReader()) {
+            // Act
+            dictionaryReader.readFromFile(path.toString());
+
+            // Assert
+            assertThat(dictionaryReader.getCategories()).isEqualTo(source.getCategories());
+            for (String category : source.getCategories()) {
+                assertThat(dictionaryReader.getWordsInCategory(category))
+                    .isEqualTo(source.getWordsInCategory(category));
+                assertThat(dictionaryReader.getRandomWordInCategory(category))
+                    .isIn(source.getWordsInCategory(category));
+            }
+            assertThat(dictionaryReader.getWordsInCategory("Non existent category")).isNull();
+            assertThat(dictionaryReader.getRandomWordInCategory("Non existent category")).isNull();
+            assertThatIllegalStateException().isThrownBy(() -> dictionaryReader.readFromFile(path.toString()));
+        }
+    }
+
+    @Test
+    void readFromInputStream(@TempDir Path directory) throws IOException {
+        // Arrange
+        DictionaryReader source = new CSVDictionaryReader(CSVDictionaryReader.COMMA);
+        source.readFromFile("src/test/resources/valid.csv");
+        Path path = directory.resolve("valid.bin");
+        BinaryDictionaryCompiler.compile(source, path);
+
+        try (BinaryDictionaryReader dictionaryReader = new BinaryDictionaryReader();
+             InputStream inputStream = Files.newInputStream(path)) {
+            // Act
+            dictionaryReader.readFromInputStream(inputStream);
+
+            // Assert
+            assertThat(dictionaryReader.getCategories()).containsExactly("Animals", "Fruits", "Techs");
+            assertThat(dictionaryReader.getWordsInCategory("Techs")).containsExactly(
+                new DictionaryWord("Techs", "pc", "desktop"),
+                new DictionaryWord("Techs", "laptop", "not pc")
+            );
+        }
+    }
+
+    @Test
+    void readFromEmptyDictionary(@TempDir Path directory) throws IOException {
+        // Arrange
+        Path path = directory.resolve("empty.bin");
+        BinaryDictionaryCompiler.compile(new CSVDictionaryReader(CSVDictionaryReader.COMMA), path);
+
+        try (BinaryDictionaryReader dictionaryReader = new BinaryDictionaryReader()) {
+            // Act
+            dictionaryReader.readFromFile(path.toString());
+
+            // Assert
+            assertThat(dictionaryReader.getCategories()).isEmpty();
+        }
+    }
+
+    @Test
+    void readFromNonBinaryFile() {
+        try (BinaryDictionaryReader dictionaryReader = new BinaryDictionaryReader()) {
+            // Act & Assert
+            assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> dictionaryReader.readFromFile("src/test/resources/valid.csv"));
+            dictionaryReader.readFromInputStream(new ByteArrayInputStream("Animals,cat,meow".getBytes(
+                StandardCharsets.UTF_8)));
+            assertThat(dictionaryReader.getCategories()).isEmpty();
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package backend.academy.hangman;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.catchThrowable;
@@ -226,4 +232,188 @@ public class CSVDictionaryReaderTest {
             assertThat(dictionaryReader.getRandomWordInCategory("Non existent category")).isNull();
         }
     }
+
+    @Nested
+    class LoadReports {
+        @Test
+        void malformedRowsAreCountedByKind() {
+            // Arrange
+            String input = new StringBuilder()
+                .append("Animals,cat,meow\n")
+                .append("There,are,too,many,columns,here\n")
+                .append("\n")
+                .append("too,few\n")
+                .append("Animals,dog,bark\n")
+                .append("columns\n")
+                .toString();
+            InputStream inputStream = new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
+            CSVDictionaryReader dictionaryReader = new CSVDictionaryReader(CSVDictionaryReader.COMMA);
+
+            // Act
+            dictionaryReader.readFromInputStream(inputStream);
+            LoadReport loadReport = dictionaryReader.getLoadReport();
+
+            // Assert
+            assertThat(dictionaryReader.getWordsInCategory("Animals")).hasSize(2);
+            assertThat(loadReport.rowsCount()).isEqualTo(2);
+            assertThat(loadReport.errorsCount()).isEqualTo(4);
+            assertThat(loadReport.errorsCount(LoadReport.ErrorKind.TOO_MANY_FIELDS)).isEqualTo(1);
+            assertThat(loadReport.errorsCount(LoadReport.ErrorKind.EMPTY_LINE)).isEqualTo(1);
+            assertThat(loadReport.errorsCount(LoadReport.ErrorKind.TOO_FEW_FIELDS)).isEqualTo(2);
+            assertThat(loadReport.sampleLineNumbers()).containsExactly(2, 3, 4, 6);
+            assertThat(loadReport.summary()).contains("2 rows", "4 malformed lines", "TOO_FEW_FIELDS=2");
+        }
+
+        @Test
+        void sampleLineNumbersAreBounded() {
+            // Arrange
+            String input = "Animals,cat,meow\n" + "invalid\n".repeat(1000);
+            InputStream inputStream = new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
+            CSVDictionaryReader dictionaryReader = new CSVDictionaryReader(CSVDictionaryReader.COMMA);
+
+            // Act
+            dictionaryReader.readFromInputStream(inputStream);
+            LoadReport loadReport = dictionaryReader.getLoadReport();
+
+            // Assert
+            assertThat(loadReport.errorsCount()).isEqualTo(1000);
+            assertThat(loadReport.sampleLineNumbers())
+                .hasSize(LoadReport.DEFAULT_MAX_SAMPLES_COUNT)
+                .startsWith(2, 3, 4);
+            assertThat(loadReport.summary()).endsWith(", ...");
+        }
+
+        @Test
+        void strictReaderFailsAtFirstMalformedRow() {
+            // Arrange
+            String input = "Animals,cat,meow\nAnimals,dog\nAnimals,cow,moo\n";
+            InputStream inputStream = new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
+            CSVDictionaryReader dictionaryReader =
+                new CSVDictionaryReader(CSVDictionaryReader.COMMA, new ThreadLocalWordSelector(), true);
+
+            // Act & Assert
+            assertThatExceptionOfType(DictionaryFormatException.class)
+                .isThrownBy(() -> dictionaryReader.readFromInputStream(inputStream))
+                .satisfies(e -> {
+                    assertThat(e.kind()).isEqualTo(LoadReport.ErrorKind.TOO_FEW_FIELDS);
+                    assertThat(e.lineNumber()).isEqualTo(2);
+                });
+            assertThat(dictionaryReader.getWordsInCategory("Animals")).hasSize(1);
+        }
+
+        @Test
+        void strictReaderAcceptsValidFile() {
+            // Arrange
+            CSVDictionaryReader dictionaryReader =
+                new CSVDictionaryReader(CSVDictionaryReader.COMMA, new ThreadLocalWordSelector(), true);
+
+            // Act
+            Throwable thrown = catchThrowable(() -> dictionaryReader.readFromFile("src/test/resources/valid.csv"));
+
+            // Assert
+            assertThat(thrown).doesNotThrowAnyException();
+            assertThat(dictionaryReader.getLoadReport().rowsCount()).isEqualTo(6);
+            assertThat(dictionaryReader.getLoadReport().source()).isEqualTo("src/test/resources/valid.csv");
+        }
+    }
+
+    @Nested
+    class CompressedFiles {
+        private static String largeDictionary() {
+            StringBuilder input = new StringBuilder();
+            for (int i = 0; i < 300_000; ++i) {
+                input.append("Категория").append(i * 7 % 13).append(",слово").append(i)
+                    .append(",подсказка ").append("ё".repeat(i % 50));
+                input.append(i % 1000 == 0 ? "\r\n" : "\n");
+                if (i % 10_000 == 0) {
+                    input.append("неверная строка\n");
+                }
+            }
+            return input.append("Last,row,without line end").toString();
+        }
+
+        @Test
+        void readFromGzipFile(@TempDir Path directory) throws IOException {
+            // Arrange
+            Path path = directory.resolve("valid.csv.gz");
+            try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(path))) {
+                Files.copy(Path.of("src/test/resources/valid.csv"), outputStream);
+            }
+            DictionaryReader expected = new CSVDictionaryReader(CSVDictionaryReader.COMMA);
+            expected.readFromFile("src/test/resources/valid.csv");
+            DictionaryReader dictionaryReader = new CSVDictionaryReader(CSVDictionaryReader.COMMA);
+
+            // Act
+            dictionaryReader.readFromFile(path.toString());
+
+            // Assert
+            assertThat(dictionaryReader.getCategories()).isEqualTo(expected.getCategories());
+            for (String category : expected.getCategories()) {
+                assertThat(dictionaryReader.getWordsInCategory(category))
+                    .isEqualTo(expected.getWordsInCategory(category));
+            }
+        }
+
+        @Test
+        void readFromBlockGzipFile(@TempDir Path directory) throws IOException {
+            // Arrange
+            byte[] input = largeDictionary().getBytes(StandardCharsets.UTF_8);
+            Path path = directory.resolve("large.csv.bgz");
+            try (OutputStream outputStream = Files.newOutputStream(path)) {
+                BlockGzip.compress(new ByteArrayInputStream(input), outputStream);
+            }
+            CSVDictionaryReader expected = new CSVDictionaryReader(CSVDictionaryReader.COMMA);
+            expected.readFromInputStream(new ByteArrayInputStream(input));
+            CSVDictionaryReader dictionaryReader = new CSVDictionaryReader(CSVDictionaryReader.COMMA);
+
+            // Act
+            dictionaryReader.readFromFile(path.toString());
+
+            // Assert
+            assertThat(Files.size(path)).isLessThan(input.length);
+            assertThat(dictionaryReader.getCategories()).isEqualTo(expected.getCategories());
+            for (String category : expected.getCategories()) {
+                assertThat(dictionaryReader.getWordsInCategory(category))
+                    .isEqualTo(expected.getWordsInCategory(category));
+            }
+            assertThat(dictionaryReader.getLoadReport().rowsCount()).isEqualTo(300_001);
+            assertThat(dictionaryReader.getLoadReport().sampleLineNumbers())
+                .isEqualTo(expected.getLoadReport().sampleLineNumbers());
+        }
+
+        @Test
+        void readFromBlockGzipInputStream() throws IOException {
+            // Arrange
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            BlockGzip.compress(new ByteArrayInputStream("Animals,cat,meow\nAnimals,dog,bark\n".getBytes(
+                StandardCharsets.UTF_8)), compressed);
+            DictionaryReader dictionaryReader = new CSVDictionaryReader(CSVDictionaryReader.COMMA);
+
+            // Act
+            dictionaryReader.readFromInputStream(new ByteArrayInputStream(compressed.toByteArray()));
+
+            // Assert
+            assertThat(dictionaryReader.getWordsInCategory("Animals")).containsExactly(
+                new DictionaryWord("Animals", "cat", "meow"),
+                new DictionaryWord("Animals", "dog", "bark")
+            );
+        }
+
+        @Test
+        void readFromCorruptBlockGzipFile(@TempDir Path directory) throws IOException {
+            // Arrange
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            BlockGzip.compress(new ByteArrayInputStream(largeDictionary().getBytes(StandardCharsets.UTF_8)),
+                compressed);
+            byte[] bytes = compressed.toByteArray();
+            bytes[bytes.length / 2] ^= 0x55;
+            Path path = directory.resolve("corrupt.csv.bgz");
+            Files.write(path, bytes);
+            DictionaryReader dictionaryReader = new CSVDictionaryReader(CSVDictionaryReader.COMMA);
+
+            // Act & Assert
+            assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> dictionaryReader.readFromFile(path.toString()));
+        }
+    }
 }
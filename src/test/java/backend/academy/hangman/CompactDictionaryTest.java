@@ -0,0 +1,78 @@
+package backend.academy.hangman;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class CompactDictionaryTest {
+
+    @Test
+    void wordsRoundTrip() {
+        // Arrange
+        List<DictionaryWord> words = List.of(
+            new DictionaryWord("Животные", "ЁЖ", "колючий, ёмкий"),
+            new DictionaryWord("Фрукты", "яблоко", ""),
+            new DictionaryWord("Животные", "кот", "мяу"),
+            new DictionaryWord("Кафе", "café", "crème brûlée"),
+            new DictionaryWord("Фрукты", "груша", "Ukrainian ї and emoji 🍐")
+        );
+        CompactDictionary dictionary = new CompactDictionary();
+        List<Integer> wordIds = new ArrayList<>();
+
+        // Act
+        for (DictionaryWord word : words) {
+            wordIds.add(dictionary.add(word.category(), word.word(), word.hint()));
+        }
+
+        // Assert
+        assertThat(wordIds).containsExactly(0, 1, 2, 3, 4);
+        assertThat(dictionary.size()).isEqualTo(5);
+        for (int i = 0; i < words.size(); ++i) {
+            assertThat(dictionary.word(i)).isEqualTo(words.get(i));
+        }
+        assertThat(dictionary.getCategories()).containsExactly("Животные", "Фрукты", "Кафе");
+        assertThat(dictionary.getWordsInCategory("Фрукты")).containsExactly(words.get(1), words.get(4));
+        assertThat(dictionary.getWordsInCategory("Non existent category")).isNull();
+    }
+
+    @Test
+    void arenaGrows() {
+        // Arrange
+        CompactDictionary dictionary = new CompactDictionary();
+        String hint = "подсказка".repeat(100);
+
+        // Act
+        for (int i = 0; i < 1000; ++i) {
+            dictionary.add("Категория" + i % 3, "слово" + i, hint);
+        }
+
+        // Assert
+        assertThat(dictionary.getWordsInCategory("Категория1")).hasSize(333);
+        assertThat(dictionary.word(999)).isEqualTo(new DictionaryWord("Категория0", "слово999", hint));
+    }
+
+    @Test
+    void replaceKeepsPosition() {
+        // Arrange
+        CompactDictionary dictionary = new CompactDictionary();
+        int catId = dictionary.add("Животные", "кот", "мяу");
+        dictionary.add("Животные", "ёж", "колючий");
+
+        // Act
+        int replacedId = dictionary.replace("Животные", 0, "кот", "мурлычет");
+
+        // Assert
+        assertThat(dictionary.getWordsInCategory("Животные")).containsExactly(
+            new DictionaryWord("Животные", "кот", "мурлычет"),
+            new DictionaryWord("Животные", "ёж", "колючий")
+        );
+        assertThat(replacedId).isEqualTo(2);
+        assertThat(dictionary.word(catId)).isEqualTo(new DictionaryWord("Животные", "кот", "мяу"));
+        assertThatIllegalArgumentException().isThrownBy(() -> dictionary.replace("Фрукты", 0, "яблоко", ""));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+            .isThrownBy(() -> dictionary.replace("Животные", 2, "кот", ""));
+    }
+}
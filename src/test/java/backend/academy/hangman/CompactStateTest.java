@@ -0,0 +1,72 @@
+package backend.academy.hangman;
+
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompactStateTest {
+    private static final DictionaryWord secretWord = new DictionaryWord("Животные", "кролик", "ушастый");
+    private static final long secretMask = Alphabet.maskOf(secretWord.word());
+
+    @Test
+    void encodeDecodeTest() {
+        // Arrange
+        Model hangman = new Hangman().createModel(secretWord, 3);
+        hangman.guessAll("лаКё");
+        long[] states = new long[CompactState.LONGS_PER_STATE * 2];
+
+        // Act
+        hangman.encode(42, states, CompactState.LONGS_PER_STATE);
+        Model decoded = new Hangman();
+        decoded.decode(states, CompactState.LONGS_PER_STATE, secretWord);
+
+        // Assert
+        assertThat(CompactState.wordId(states, CompactState.LONGS_PER_STATE)).isEqualTo(42);
+        assertThat(CompactState.missesCount(states, CompactState.LONGS_PER_STATE)).isEqualTo(2);
+        assertThat(CompactState.maxMissesCount(states, CompactState.LONGS_PER_STATE)).isEqualTo(3);
+        assertThat(states[0]).isZero();
+        assertThat(decoded.getMaxMissesCount()).isEqualTo(3);
+        assertThat(decoded.getMissesCount()).isEqualTo(2);
+        assertThat(decoded.getMissesView().toString()).isEqualTo("АЁ");
+        assertThat(decoded.getHitsView().toString()).isEqualTo("КЛ");
+        assertThat(decoded.getWordRepresentationView().toString()).isEqualTo("К__Л_К");
+        assertThat(decoded.getStatus()).isSameAs(Status.of(Status.GuessStatus.NONE, Status.GameStatus.NONE));
+    }
+
+    @Test
+    void guessOnEncodedStateMatchesModelTest() {
+        // Arrange
+        Model hangman = new Hangman().createModel(secretWord, 3);
+        long[] states = new long[CompactState.LONGS_PER_STATE];
+        hangman.encode(7, states, 0);
+        String letters = "кzаКролбиц";
+
+        for (int i = 0; i < letters.length(); ++i) {
+            // Act
+            hangman.guess(letters.charAt(i));
+            Status status = CompactState.guess(states, 0, secretMask, letters.charAt(i));
+
+            // Assert
+            assertThat(status).isSameAs(hangman.getStatus());
+            assertThat(CompactState.missesCount(states, 0)).isEqualTo(hangman.getMissesCount());
+        }
+        assertThat(CompactState.wordId(states, 0)).isEqualTo(7);
+        assertThat(CompactState.gameStatus(states, 0, secretMask)).isEqualTo(Status.GameStatus.WIN);
+    }
+
+    @Test
+    void decodeLostGameTest() {
+        // Arrange
+        long[] states = new long[CompactState.LONGS_PER_STATE];
+        new Hangman().createModel(secretWord, 0).encode(CompactState.MAX_WORD_ID, states, 0);
+        CompactState.guess(states, 0, secretMask, 'я');
+
+        // Act
+        Model decoded = new Hangman();
+        decoded.decode(states, 0, secretWord);
+
+        // Assert
+        assertThat(CompactState.wordId(states, 0)).isEqualTo(CompactState.MAX_WORD_ID);
+        assertThat(decoded.getStatus().gameStatus()).isEqualTo(Status.GameStatus.LOSE);
+        assertThat(decoded.getMisses()).containsExactly('Я');
+    }
+}
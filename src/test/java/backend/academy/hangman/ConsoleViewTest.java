@@ -0,0 +1,44 @@
+package backend.academy.hangman;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+public class ConsoleViewTest {
+
+    private static ConsoleView view(String input) {
+        return new ConsoleView(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)),
+            new ByteArrayOutputStream());
+    }
+
+    @Test
+    void messageWaitsForNewLineAfterAnswer() {
+        // Arrange
+        ConsoleView view = view("1 и остаток строки\nН\n");
+
+        // Act
+        String category = view.askCategory(List.of("Животные"));
+        view.sayHello();
+
+        // Assert
+        assertThat(category).isEqualTo("Животные");
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(view::askForPlayAgain);
+    }
+
+    @Test
+    void closedInput() {
+        // Arrange
+        ConsoleView view = view("Н");
+
+        // Act & Assert
+        assertThat(view.askForPlayAgain()).isFalse();
+        assertThatNoException().isThrownBy(view::sayGoodbye);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(view::sayHello);
+    }
+}
@@ -0,0 +1,64 @@
+package backend.academy.hangman;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Random word lookups from many threads at once: the loaded CSV reader against its immutable snapshot
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+public class DictionarySnapshotBenchmark {
+    private CSVDictionaryReader dictionaryReader;
+    private DictionarySnapshot snapshot;
+    private List<String> categories;
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(DictionarySnapshotBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        dictionaryReader = new CSVDictionaryReader(CSVDictionaryReader.VERTICAL_BAR);
+        dictionaryReader.readFromFile("src/main/resources/dictionary.csv");
+        snapshot = dictionaryReader.snapshot();
+        categories = snapshot.getCategories();
+    }
+
+    @Benchmark
+    public DictionaryWord reader() {
+        return dictionaryReader.getRandomWordInCategory(randomCategory());
+    }
+
+    @Benchmark
+    public DictionaryWord snapshot() {
+        return snapshot.getRandomWordInCategory(randomCategory());
+    }
+
+    private String randomCategory() {
+        return categories.get(ThreadLocalRandom.current().nextInt(categories.size()));
+    }
+}
@@ -0,0 +1,98 @@
+package backend.academy.hangman;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class DictionarySnapshotTest {
+    private CSVDictionaryReader dictionaryReader;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dictionaryReader = new CSVDictionaryReader(CSVDictionaryReader.VERTICAL_BAR);
+        dictionaryReader.readFromFile("src/main/resources/dictionary.csv");
+    }
+
+    @Test
+    void sameWordsAsReader() {
+        // Act
+        DictionarySnapshot snapshot = dictionaryReader.snapshot();
+
+        // Assert
+        assertThat(snapshot.getCategories()).isEqualTo(dictionaryReader.getCategories());
+        for (String category : dictionaryReader.getCategories()) {
+            assertThat(snapshot.getWordsInCategory(category)).isEqualTo(dictionaryReader.getWordsInCategory(category));
+            assertThat(snapshot.getRandomWordInCategory(category)).isIn(dictionaryReader.getWordsInCategory(category));
+        }
+        assertThat(snapshot.getWordsInCategory("Non existent category")).isNull();
+        assertThat(snapshot.getRandomWordInCategory("Non existent category")).isNull();
+    }
+
+    @Test
+    void immutable() throws IOException {
+        // Arrange
+        DictionarySnapshot snapshot = dictionaryReader.snapshot();
+        String category = snapshot.getCategories().getFirst();
+        int wordsCount = snapshot.getWordsInCategory(category).size();
+
+        // Act
+        dictionaryReader.readFromFile("src/main/resources/dictionary.csv");
+
+        // Assert
+        assertThat(snapshot.getWordsInCategory(category)).hasSize(wordsCount);
+        assertThat(dictionaryReader.getWordsInCategory(category)).hasSize(2 * wordsCount);
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+            .isThrownBy(() -> snapshot.getCategories().add("Animals"));
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+            .isThrownBy(() -> snapshot.getWordsInCategory(category).set(0, null));
+        assertThat(snapshot).isNotInstanceOf(DictionaryReader.class);
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+            .isThrownBy(() -> dictionaryReader.getCategories().clear());
+    }
+
+    @Test
+    void concurrentReads() throws Exception {
+        // Arrange
+        DictionarySnapshot snapshot = dictionaryReader.snapshot();
+        List<String> categories = snapshot.getCategories();
+        int threadsCount = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        // Act: every thread checks that each random word belongs to the category it asked for
+        try (ExecutorService executor = Executors.newFixedThreadPool(threadsCount)) {
+            for (int t = 0; t < threadsCount; ++t) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int mismatches = 0;
+                    for (int i = 0; i < 100_000; ++i) {
+                        String category = categories.get(i % categories.size());
+                        DictionaryWord word = snapshot.getRandomWordInCategory(category);
+                        List<DictionaryWord> words = snapshot.getWordsInCategory(category);
+                        if (!word.category().equals(category) || words.isEmpty()) {
+                            mismatches++;
+                        }
+                    }
+                    return mismatches;
+                }));
+            }
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        }
+
+        // Assert
+        for (Future<Integer> result : results) {
+            assertThat(result.get()).isZero();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package backend.academy.hangman;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DifficultyIndexTest {
+    private static final String DICTIONARY = """
+        Животные,кот,мурлычет
+        Животные,кошка,мяукает
+        Животные,ёж,колючий
+        Животные,щука,плавает
+        Животные,бегемот,большой
+        Животные,шимпанзе,обезьяна
+        Фрукты,яблоко,красное
+        """;
+
+    private final RandomGenerator random = RandomGenerator.of("L64X128MixRandom");
+    private DictionaryReader dictionaryReader;
+    private DifficultyIndex difficultyIndex;
+
+    @BeforeEach
+    void setUp() {
+        dictionaryReader = new CSVDictionaryReader(CSVDictionaryReader.COMMA);
+        dictionaryReader.readFromInputStream(new ByteArrayInputStream(DICTIONARY.getBytes(StandardCharsets.UTF_8)));
+        difficultyIndex = DifficultyIndex.of(dictionaryReader);
+    }
+
+    @Test
+    void scoreCountsDistinctLettersByRarity() {
+        // Assert
+        assertThat(difficultyIndex.rarity('о')).isZero();
+        assertThat(difficultyIndex.rarity('Щ')).isPositive();
+        assertThat(difficultyIndex.rarity('ф')).isEqualTo(DifficultyIndex.MAX_RARITY);
+        assertThat(difficultyIndex.rarity('x')).isZero();
+        assertThat(difficultyIndex.score("")).isZero();
+        assertThat(difficultyIndex.score("кот")).isEqualTo(difficultyIndex.score("ТОК"));
+        assertThat(difficultyIndex.score("кот")).isEqualTo(difficultyIndex.score("коток"));
+        assertThat(difficultyIndex.score("кот")).isLessThan(difficultyIndex.score("кошка"));
+        assertThat(difficultyIndex.score("кот")).isBetween(3, 3 * (1 + DifficultyIndex.MAX_RARITY));
+    }
+
+    @Test
+    void randomWordInScoreRange() {
+        // Arrange
+        List<DictionaryWord> animals = dictionaryReader.getWordsInCategory("Животные");
+        int minScore = difficultyIndex.score("кошка");
+        int maxScore = difficultyIndex.score("бегемот");
+        Set<DictionaryWord> picked = new HashSet<>();
+
+        // Act
+        for (int i = 0; i < 1000; ++i) {
+            picked.add(difficultyIndex.getRandomWord("Животные", minScore, maxScore, random));
+        }
+
+        // Assert
+        assertThat(picked).isEqualTo(new HashSet<>(animals.stream()
+            .filter(word -> {
+                int score = difficultyIndex.score(word.word());
+                return minScore <= score && score <= maxScore;
+            })
+            .toList()));
+        assertThat(difficultyIndex.getRandomWord("Животные", maxScore + 1, minScore - 1, random)).isNull();
+        assertThat(difficultyIndex.getRandomWord("Животные", -10, 1000, random)).isIn(animals);
+        assertThat(difficultyIndex.getRandomWord("Non existent category", 0, 1000, random)).isNull();
+    }
+
+    @Test
+    void randomWordOfLength() {
+        // Arrange
+        Set<String> picked = new HashSet<>();
+
+        // Act
+        for (int i = 0; i < 1000; ++i) {
+            picked.add(difficultyIndex.getRandomWordOfLength("Животные", 4, 5, random).word());
+        }
+
+        // Assert
+        assertThat(picked).containsExactlyInAnyOrder("кошка", "щука");
+        assertThat(difficultyIndex.getRandomWordOfLength("Животные", 8, 100, random).word()).isEqualTo("шимпанзе");
+        assertThat(difficultyIndex.getRandomWordOfLength("Фрукты", 1, 5, random)).isNull();
+    }
+
+    @Test
+    void randomWordForMaxMissesCount() {
+        // Arrange
+        Set<String> easy = new HashSet<>();
+        Set<String> hard = new HashSet<>();
+
+        // Act
+        for (int i = 0; i < 1000; ++i) {
+            easy.add(difficultyIndex.getRandomWordForMaxMissesCount("Животные", Constants.EASY_MISSES_COUNT, random)
+                .word());
+            hard.add(difficultyIndex.getRandomWordForMaxMissesCount("Животные", Constants.HARD_MISSES_COUNT, random)
+                .word());
+        }
+
+        // Assert
+        assertThat(easy).hasSize(2).doesNotContainAnyElementsOf(hard);
+        assertThat(hard).hasSize(2).contains("шимпанзе");
+        int easiest = easy.stream().mapToInt(difficultyIndex::score).max().orElseThrow();
+        int hardest = hard.stream().mapToInt(difficultyIndex::score).min().orElseThrow();
+        assertThat(easiest).isLessThanOrEqualTo(hardest);
+        assertThat(difficultyIndex.getRandomWordForMaxMissesCount("Фрукты", Constants.ZERO_MISSES_COUNT, random)
+            .word()).isEqualTo("яблоко");
+    }
+
+    @Test
+    void readerAndSnapshotBuildIndex() {
+        // Arrange
+        CSVDictionaryReader csvReader = new CSVDictionaryReader(CSVDictionaryReader.COMMA);
+        csvReader.readFromInputStream(new ByteArrayInputStream(DICTIONARY.getBytes(StandardCharsets.UTF_8)));
+
+        // Act
+        DifficultyIndex readerIndex = csvReader.getDifficultyIndex();
+        DifficultyIndex snapshotIndex = csvReader.snapshot().getDifficultyIndex();
+        csvReader.readFromInputStream(new ByteArrayInputStream("Фрукты,груша,жёлтая".getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertThat(csvReader.getDifficultyIndex()).isSameAs(csvReader.getDifficultyIndex()).isNotSameAs(readerIndex);
+        assertThat(readerIndex.getRandomWordOfLength("Фрукты", 5, 5, random)).isNull();
+        assertThat(csvReader.getDifficultyIndex().getRandomWordOfLength("Фрукты", 5, 5, random).word())
+            .isEqualTo("груша");
+        assertThat(snapshotIndex.score("шимпанзе")).isEqualTo(difficultyIndex.score("шимпанзе"));
+        assertThat(snapshotIndex.getRandomWordForMaxMissesCount("Фрукты", Constants.EASY_MISSES_COUNT, random)
+            .word()).isEqualTo("яблоко");
+    }
+}
@@ -0,0 +1,101 @@
+package backend.academy.hangman;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GameServerTest {
+
+    private static DictionaryReader singleWordDictionary() {
+        DictionaryReader dictionaryReader = new CSVDictionaryReader(CSVDictionaryReader.COMMA);
+        dictionaryReader.readFromInputStream(
+            new ByteArrayInputStream("Животные,кот,мурлыкает\n".getBytes(StandardCharsets.UTF_8)));
+        return dictionaryReader;
+    }
+
+    private static String play(int port, String input) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            socket.setSoTimeout(10_000);
+            OutputStream outputStream = socket.getOutputStream();
+            outputStream.write(input.getBytes(StandardCharsets.UTF_8));
+            outputStream.flush();
+            socket.shutdownOutput();
+            InputStream inputStream = socket.getInputStream();
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    void playOverLoopbackTest() throws Exception {
+        // Arrange
+        String input = "\n1\n4\nк\nо\nт\nН\n";
+
+        try (GameServer server = new GameServer(0, InetAddress.getLoopbackAddress(), singleWordDictionary())) {
+            Thread.ofVirtual().start(server::run);
+
+            // Act
+            String output = play(server.getPort(), input);
+
+            // Assert
+            assertThat(output).contains(Constants.HELLO_MESSAGE);
+            assertThat(output).contains("К О Т");
+            assertThat(output).contains(Constants.GAME_STATUS_WIN);
+            assertThat(output).contains(Constants.GOODBYE_MESSAGE);
+        }
+    }
+
+    @Test
+    void concurrentClientsTest() throws Exception {
+        // Arrange
+        final int clientsCount = 50;
+        String winInput = "\n1\n4\nк\nо\nт\nН\n";
+        String loseInput = "\n1\n4\nа\nН\n";
+
+        try (GameServer server = new GameServer(0, InetAddress.getLoopbackAddress(), singleWordDictionary())) {
+            Thread.ofVirtual().start(server::run);
+            Thread[] clients = new Thread[clientsCount];
+            String[] outputs = new String[clientsCount];
+
+            // Act
+            for (int i = 0; i < clientsCount; ++i) {
+                final int client = i;
+                clients[i] = Thread.ofVirtual().start(() -> {
+                    try {
+                        outputs[client] = play(server.getPort(), client % 2 == 0 ? winInput : loseInput);
+                    } catch (IOException e) {
+                        outputs[client] = e.toString();
+                    }
+                });
+            }
+            for (Thread client : clients) {
+                client.join();
+            }
+
+            // Assert
+            for (int i = 0; i < clientsCount; ++i) {
+                assertThat(outputs[i]).contains(i % 2 == 0 ? Constants.GAME_STATUS_WIN : Constants.GAME_STATUS_LOSE);
+            }
+        }
+    }
+
+    @Test
+    void clientDisconnectDoesNotStopServerTest() throws Exception {
+        try (GameServer server = new GameServer(0, InetAddress.getLoopbackAddress(), singleWordDictionary())) {
+            Thread.ofVirtual().start(server::run);
+
+            // Act
+            String abandoned = play(server.getPort(), "\n1\n");
+            String completed = play(server.getPort(), "\n1\n4\nк\nо\nт\nН\n");
+
+            // Assert
+            assertThat(abandoned).doesNotContain(Constants.GAME_STATUS_WIN);
+            assertThat(completed).contains(Constants.GAME_STATUS_WIN);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package backend.academy.hangman;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GameSessionManagerTest {
+    private static final DictionaryWord secretWord = new DictionaryWord("Животные", "кот", "мурлыкает");
+
+    @Test
+    void sessionLifecycleTest() {
+        // Arrange
+        GameSessionManager manager = new GameSessionManager(new HangmanPool(1));
+
+        // Act
+        long sessionId = manager.createSession(secretWord, 1);
+        Status hitStatus = manager.guess(sessionId, 'к');
+        String wordRepresentation = manager.query(sessionId, model -> model.getWordRepresentationView().toString());
+        boolean ended = manager.endSession(sessionId);
+
+        // Assert
+        assertThat(hitStatus).isSameAs(Status.of(Status.GuessStatus.CORRECT, Status.GameStatus.NONE));
+        assertThat(wordRepresentation).isEqualTo("К__");
+        assertThat(ended).isTrue();
+        assertThat(manager.getSessionsCount()).isZero();
+        assertThat(manager.guess(sessionId, 'о')).isNull();
+        assertThat(manager.getStatus(sessionId)).isNull();
+        assertThat(manager.endSession(sessionId)).isFalse();
+    }
+
+    @Test
+    void sessionsAreIndependentTest() {
+        // Arrange
+        GameSessionManager manager = new GameSessionManager(new HangmanPool(2));
+        long first = manager.createSession(secretWord, 0);
+        long second = manager.createSession(secretWord, 0);
+
+        // Act
+        manager.guess(first, 'а');
+        manager.guess(second, 'к');
+
+        // Assert
+        assertThat(first).isNotEqualTo(second);
+        assertThat(manager.getStatus(first)).isSameAs(Status.of(Status.GuessStatus.INCORRECT, Status.GameStatus.LOSE));
+        assertThat(manager.getStatus(second)).isSameAs(Status.of(Status.GuessStatus.CORRECT, Status.GameStatus.NONE));
+    }
+
+    @Test
+    void guessAllTest() {
+        // Arrange
+        GameSessionManager manager = new GameSessionManager(new HangmanPool(1));
+        long sessionId = manager.createSession(secretWord, 1);
+
+        // Act
+        GuessBatchResult result = manager.guessAll(sessionId, "котэ");
+
+        // Assert
+        assertThat(result.appliedCount()).isEqualTo(3);
+        assertThat(result.gameStatus()).isEqualTo(Status.GameStatus.WIN);
+        assertThat(manager.guessAll(sessionId + 1, "кот")).isNull();
+    }
+
+    @Test
+    void concurrentSessionsTest() throws Exception {
+        // Arrange
+        final int threadsCount = 8;
+        final int sessionsPerThread = 1000;
+        GameSessionManager manager = new GameSessionManager(new HangmanPool(threadsCount));
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        // Act
+        try (ExecutorService executor = Executors.newFixedThreadPool(threadsCount)) {
+            for (int t = 0; t < threadsCount; ++t) {
+                futures.add(executor.submit(() -> {
+                    int wins = 0;
+                    for (int i = 0; i < sessionsPerThread; ++i) {
+                        long sessionId = manager.createSession(secretWord, 0);
+                        manager.guess(sessionId, 'к');
+                        manager.guess(sessionId, 'о');
+                        if (manager.guess(sessionId, 'т').gameStatus() == Status.GameStatus.WIN) {
+                            wins++;
+                        }
+                        manager.endSession(sessionId);
+                    }
+                    return wins;
+                }));
+            }
+        }
+
+        // Assert
+        for (Future<Integer> future : futures) {
+            assertThat(future.get()).isEqualTo(sessionsPerThread);
+        }
+        assertThat(manager.getSessionsCount()).isZero();
+    }
+
+    @Test
+    void concurrentGuessesOnOneSessionTest() throws Exception {
+        // Arrange
+        GameSessionManager manager = new GameSessionManager(new HangmanPool(1));
+        long sessionId = manager.createSession(secretWord, Constants.ALPHABET_SIZE);
+        String letters = "АБВГДЕЁЖЗИЙЛМНПРСУФХЦЧШЩЪЫЬЭЮЯ";
+
+        // Act
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (int i = 0; i < letters.length(); ++i) {
+                char letter = letters.charAt(i);
+                executor.submit(() -> manager.guess(sessionId, letter));
+            }
+        }
+
+        // Assert
+        assertThat(manager.query(sessionId, Model::getMissesCount)).isEqualTo(letters.length());
+    }
+}
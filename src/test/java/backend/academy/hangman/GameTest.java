@@ -0,0 +1,90 @@
+package backend.academy.hangman;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GameTest {
+    private static final String CATEGORY = "Животные";
+
+    // Every word has the letters of the one before it and more, so each is harder than the one before it
+    private static final Dictionary DICTIONARY = new Dictionary() {
+        private final Map<String, List<DictionaryWord>> words = Map.of(CATEGORY, List.of(
+            new DictionaryWord(CATEGORY, "скотина", "трудное"),
+            new DictionaryWord(CATEGORY, "то", "легкое"),
+            new DictionaryWord(CATEGORY, "кот", "среднее")
+        ));
+
+        @Override
+        public List<String> getCategories() {
+            return List.of(CATEGORY);
+        }
+
+        @Override
+        public List<DictionaryWord> getWordsInCategory(String category) {
+            return words.get(category);
+        }
+
+        @Override
+        public DictionaryWord getRandomWordInCategory(String category) {
+            return words.get(category).getFirst();
+        }
+    };
+
+    private static String playOneRound(int maxMissesCount) {
+        Model model = new Hangman();
+        new Game(model, new OneRoundView(maxMissesCount), DICTIONARY).run();
+        return model.getSecretWordHint();
+    }
+
+    @Test
+    void maxMissesCountSelectsDifficultyBand() {
+        // Act & Assert
+        assertThat(playOneRound(Constants.EASY_MISSES_COUNT)).isEqualTo("легкое");
+        assertThat(playOneRound(Constants.NORMAL_MISSES_COUNT)).isEqualTo("среднее");
+        assertThat(playOneRound(Constants.HARD_MISSES_COUNT)).isEqualTo("трудное");
+    }
+
+    // Picks the category and the misses count, then guesses the letters of the alphabet in order
+    private static final class OneRoundView implements View {
+        private final int maxMissesCount;
+        private int guessesCount;
+
+        OneRoundView(int maxMissesCount) {
+            this.maxMissesCount = maxMissesCount;
+        }
+
+        @Override
+        public void sayHello() {
+        }
+
+        @Override
+        public void sayGoodbye() {
+        }
+
+        @Override
+        public String askCategory(List<String> categories) {
+            return CATEGORY;
+        }
+
+        @Override
+        public int askMaxMissesCount() {
+            return maxMissesCount;
+        }
+
+        @Override
+        public boolean askForPlayAgain() {
+            return false;
+        }
+
+        @Override
+        public void draw(Model model) {
+        }
+
+        @Override
+        public char getGuess() {
+            return Alphabet.letterAt(guessesCount++);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package backend.academy.hangman;
+
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HangmanPoolTest {
+    private static final DictionaryWord cat = new DictionaryWord("Животные", "кот", "мурлыкает");
+    private static final DictionaryWord crocodile = new DictionaryWord("Животные", "крокодил", "зелёный");
+
+    @Test
+    void acquireReusesReleasedInstanceTest() {
+        // Arrange
+        HangmanPool pool = new HangmanPool(1);
+        Hangman first = pool.acquire(cat, 1);
+        first.guess('к');
+        first.guess('а');
+
+        // Act
+        boolean released = pool.release(first);
+        Hangman second = pool.acquire(crocodile, 3);
+
+        // Assert
+        assertThat(released).isTrue();
+        assertThat(second).isSameAs(first);
+        assertThat(second.getStatus()).isSameAs(Status.of(Status.GuessStatus.NONE, Status.GameStatus.NONE));
+        assertThat(second.getMaxMissesCount()).isEqualTo(3);
+        assertThat(second.getMissesCount()).isEqualTo(0);
+        assertThat(second.getMisses()).isEmpty();
+        assertThat(second.getHits()).isEmpty();
+        assertThat(second.getWordRepresentationView().toString()).isEqualTo("________");
+        assertThat(second.getSecretWordHint()).isEqualTo("зелёный");
+    }
+
+    @Test
+    void releaseIntoFullPoolTest() {
+        // Arrange
+        HangmanPool pool = new HangmanPool(1);
+        Hangman first = pool.acquire(cat, 1);
+        Hangman second = pool.acquire(cat, 1);
+
+        // Act & Assert
+        assertThat(pool.release(first)).isTrue();
+        assertThat(pool.release(second)).isFalse();
+        assertThat(pool.idleCount()).isEqualTo(1);
+    }
+
+    @Test
+    void resetReusedModelPlaysNewRoundTest() {
+        // Arrange
+        HangmanPool pool = new HangmanPool(1);
+        Hangman hangman = pool.acquire(crocodile, 0);
+        hangman.guess('р');
+        pool.release(hangman);
+        hangman = pool.acquire(cat, 0);
+
+        // Act
+        hangman.guess('к');
+        hangman.guess('о');
+        hangman.guess('т');
+
+        // Assert
+        assertThat(hangman.getStatus()).isSameAs(Status.of(Status.GuessStatus.CORRECT, Status.GameStatus.WIN));
+        assertThat(hangman.getWordRepresentationView().toString()).isEqualTo("КОТ");
+    }
+}
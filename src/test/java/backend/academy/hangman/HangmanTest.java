@@ -193,4 +193,104 @@ public class HangmanTest {
         assertThat(hangman.getMissesCount()).isEqualTo(missesCount);
         assertThat(hangman.getWordRepresentation()).isEqualTo(wordRepresentation);
     }
+
+    @Test
+    void winWithRepeatedLettersAndYoTest() {
+        // Arrange
+        Model hangman = new Hangman();
+        hangman = hangman.createModel(new DictionaryWord("Животные", "ёжик", "колючий"), maxMissesCount);
+        final Status hitStatus = new Status(Status.GuessStatus.CORRECT, Status.GameStatus.NONE);
+        final Status winStatus = new Status(Status.GuessStatus.CORRECT, Status.GameStatus.WIN);
+
+        // Act & Assert
+        hangman.guess('ё');
+        assertThat(hangman.getStatus()).isEqualTo(hitStatus);
+        hangman.guess('Ж');
+        hangman.guess('и');
+        assertThat(hangman.getStatus()).isEqualTo(hitStatus);
+        hangman.guess('К');
+        assertThat(hangman.getStatus()).isEqualTo(winStatus);
+        assertThat(hangman.getHits()).containsExactly('Ё', 'Ж', 'И', 'К');
+        assertThat(hangman.getWordRepresentation()).containsExactly('Ё', 'Ж', 'И', 'К');
+    }
+
+    @Test
+    void statusInstancesAreCanonicalTest() {
+        // Arrange
+        Model hangman = new Hangman();
+        hangman = hangman.createModel(secretWord, maxMissesCount);
+
+        // Act & Assert
+        assertThat(hangman.getStatus()).isSameAs(Status.of(Status.GuessStatus.NONE, Status.GameStatus.NONE));
+        hangman.guess('к');
+        assertThat(hangman.getStatus()).isSameAs(Status.of(Status.GuessStatus.CORRECT, Status.GameStatus.NONE));
+        hangman.guess('Z');
+        assertThat(hangman.getStatus()).isSameAs(Status.of(Status.GuessStatus.INVALID, Status.GameStatus.NONE));
+        hangman.guess('а');
+        assertThat(hangman.getStatus()).isSameAs(Status.of(Status.GuessStatus.INCORRECT, Status.GameStatus.NONE));
+        assertThat(Status.of(Status.GuessStatus.CORRECT, Status.GameStatus.WIN))
+            .isEqualTo(new Status(Status.GuessStatus.CORRECT, Status.GameStatus.WIN));
+    }
+
+    @Test
+    void primitiveViewsTest() {
+        // Arrange
+        Model hangman = new Hangman();
+        hangman = hangman.createModel(secretWord, maxMissesCount);
+        CharSequence misses = hangman.getMissesView();
+        CharSequence hits = hangman.getHitsView();
+        CharSequence wordRepresentation = hangman.getWordRepresentationView();
+
+        // Assert (initial state)
+        assertThat(misses).isEmpty();
+        assertThat(hits).isEmpty();
+        assertThat(wordRepresentation.toString()).isEqualTo("___");
+
+        // Act
+        hangman.guess('т');
+        hangman.guess('ы');
+
+        // Assert (views are live)
+        assertThat(misses.toString()).isEqualTo("Ы");
+        assertThat(hits.toString()).isEqualTo("Т");
+        assertThat(wordRepresentation.toString()).isEqualTo("__Т");
+        assertThat(wordRepresentation.charAt(2)).isEqualTo('Т');
+        assertThat(hangman.getMisses()).containsExactly('Ы');
+    }
+
+    @Test
+    void guessAllStopsAtGameEndTest() {
+        // Arrange
+        Model hangman = new Hangman();
+        hangman = hangman.createModel(secretWord, maxMissesCount);
+
+        // Act
+        GuessBatchResult result = hangman.guessAll("кКzотаб");
+
+        // Assert
+        assertThat(result.gameStatus()).isEqualTo(Status.GameStatus.WIN);
+        assertThat(result.appliedCount()).isEqualTo(5);
+        assertThat(result.guessStatus(0)).isEqualTo(Status.GuessStatus.CORRECT);
+        assertThat(result.guessStatus(1)).isEqualTo(Status.GuessStatus.ALREADY_GUESSED);
+        assertThat(result.guessStatus(2)).isEqualTo(Status.GuessStatus.INVALID);
+        assertThat(result.guessStatus(3)).isEqualTo(Status.GuessStatus.CORRECT);
+        assertThat(result.guessStatus(4)).isEqualTo(Status.GuessStatus.CORRECT);
+        assertThat(hangman.getMisses()).isEmpty();
+    }
+
+    @Test
+    void guessAllLoseTest() {
+        // Arrange
+        Model hangman = new Hangman();
+        hangman = hangman.createModel(secretWord, maxMissesCount);
+
+        // Act
+        GuessBatchResult result = hangman.guessAll("абв");
+
+        // Assert
+        assertThat(result.gameStatus()).isEqualTo(Status.GameStatus.LOSE);
+        assertThat(result.appliedCount()).isEqualTo(2);
+        assertThat(hangman.getMissesView().toString()).isEqualTo("АБ");
+        assertThat(hangman.guessAll("в").appliedCount()).isZero();
+    }
 }
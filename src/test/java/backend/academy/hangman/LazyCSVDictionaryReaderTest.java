@@ -0,0 +1,159 @@
+package backend.academy.hangman;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class LazyCSVDictionaryReaderTest {
+
+    @Test
+    void sameWordsAsCSVDictionaryReader() throws IOException {
+        // Arrange
+        DictionaryReader expected = new CSVDictionaryReader(CSVDictionaryReader.VERTICAL_BAR);
+        expected.readFromFile("src/main/resources/dictionary.csv");
+
+        try (LazyCSVDictionaryReader dictionaryReader =
+                 new LazyCSVDictionaryReader(CSVDictionaryReader.VERTICAL_BAR, 1000)) {
+            // Act
+            dictionaryReader.readFromFile("src/main/resources/dictionary.csv");
+
+            // Assert
+            assertThat(dictionaryReader.getCategories()).isEqualTo(expected.getCategories());
+            assertThat(dictionaryReader.getCachedWordsCount()).isZero();
+            for (String category : expected.getCategories()) {
+                assertThat(dictionaryReader.getWordsInCategory(category))
+                    .isEqualTo(expected.getWordsInCategory(category));
+                assertThat(dictionaryReader.getRandomWordInCategory(category))
+                    .isIn(expected.getWordsInCategory(category));
+            }
+            assertThat(dictionaryReader.getWordsInCategory("Non existent category")).isNull();
+            assertThat(dictionaryReader.getRandomWordInCategory("Non existent category")).isNull();
+        }
+    }
+
+    @Test
+    void cacheIsBounded(@TempDir Path directory) throws IOException {
+        // Arrange
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 1000; ++i) {
+            input.append("Категория").append(i % 10).append(",слово").append(i).append(",подсказка\r\n");
+        }
+        input.append("неверная строка\n").append("Длинная,").append("а".repeat(10_000)).append(",подсказка");
+        Path path = directory.resolve("dictionary.csv");
+        Files.writeString(path, input, StandardCharsets.UTF_8);
+
+        try (LazyCSVDictionaryReader dictionaryReader = new LazyCSVDictionaryReader(CSVDictionaryReader.COMMA, 250)) {
+            dictionaryReader.readFromFile(path.toString());
+
+            // Act
+            for (int i = 0; i < 10; ++i) {
+                assertThat(dictionaryReader.getWordsInCategory("Категория" + i)).hasSize(100)
+                    .allMatch(word -> word.hint().equals("подсказка"));
+            }
+
+            // Assert
+            assertThat(dictionaryReader.getCachedWordsCount()).isBetween(100L, 250L);
+            assertThat(dictionaryReader.getWordsInCategory("Длинная"))
+                .containsExactly(new DictionaryWord("Длинная", "а".repeat(10_000), "подсказка"));
+        }
+    }
+
+    @Test
+    void readFromInputStream() throws IOException {
+        // Arrange
+        List<String> lines = Files.readAllLines(Path.of("src/test/resources/valid.csv"));
+
+        try (LazyCSVDictionaryReader dictionaryReader = new LazyCSVDictionaryReader(CSVDictionaryReader.COMMA, 10)) {
+            // Act
+            dictionaryReader.readFromInputStream(
+                new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8)));
+
+            // Assert
+            assertThat(dictionaryReader.getCategories()).containsExactly("Animals", "Fruits", "Techs");
+            assertThat(dictionaryReader.getWordsInCategory("Techs")).containsExactly(
+                new DictionaryWord("Techs", "pc", "desktop"),
+                new DictionaryWord("Techs", "laptop", "not pc")
+            );
+        }
+    }
+
+    @Test
+    void malformedRowsAreCountedLikeCSVDictionaryReader() throws IOException {
+        // Arrange
+        String input = new StringBuilder()
+            .append("Animals,cat,meow\n")
+            .append("There,are,too,many,columns,here\n")
+            .append("\r\n")
+            .append("too,few\n")
+            .append("Animals,dog,bark,,\n")
+            .append(",,,\n")
+            .append("columns")
+            .toString();
+        CSVDictionaryReader csvReader = new CSVDictionaryReader(CSVDictionaryReader.COMMA);
+        csvReader.readFromInputStream(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+        LoadReport expected = csvReader.getLoadReport();
+
+        try (LazyCSVDictionaryReader dictionaryReader = new LazyCSVDictionaryReader(CSVDictionaryReader.COMMA, 100)) {
+            // Act
+            dictionaryReader.readFromInputStream(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+            LoadReport loadReport = dictionaryReader.getLoadReport();
+
+            // Assert
+            assertThat(loadReport.rowsCount()).isEqualTo(expected.rowsCount()).isEqualTo(2);
+            for (LoadReport.ErrorKind kind : LoadReport.ErrorKind.values()) {
+                assertThat(loadReport.errorsCount(kind)).isEqualTo(expected.errorsCount(kind));
+            }
+            assertThat(loadReport.sampleLineNumbers())
+                .containsExactly(expected.sampleLineNumbers())
+                .containsExactly(2, 3, 4, 6, 7);
+        }
+    }
+
+    @Test
+    void categoriesLargerThanScanWindow(@TempDir Path directory) throws IOException {
+        // Arrange
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 5000; ++i) {
+            input.append(i % 3 == 0 ? "Редкие" : "Частые").append(",слово").append(i).append(",подсказка ")
+                .append(i).append(i % 7 == 0 ? "\r\n" : "\n");
+            if (i == 2500) {
+                input.append("Длинные,").append("д".repeat(100_000)).append(",очень длинное\n");
+            }
+        }
+        Path path = directory.resolve("large.csv");
+        Files.writeString(path, input, StandardCharsets.UTF_8);
+        DictionaryReader expected = new CSVDictionaryReader(CSVDictionaryReader.COMMA);
+        expected.readFromFile(path.toString());
+
+        try (LazyCSVDictionaryReader dictionaryReader = new LazyCSVDictionaryReader(CSVDictionaryReader.COMMA, 10)) {
+            dictionaryReader.readFromFile(path.toString());
+
+            // Act
+            DictionaryWord randomWord = dictionaryReader.getRandomWordInCategory("Частые");
+
+            // Assert
+            assertThat(randomWord).isIn(expected.getWordsInCategory("Частые"));
+            assertThat(dictionaryReader.getCachedWordsCount()).isZero();
+            for (String category : expected.getCategories()) {
+                assertThat(dictionaryReader.getWordsInCategory(category))
+                    .isEqualTo(expected.getWordsInCategory(category));
+            }
+        }
+    }
+
+    @Test
+    void readFromNonExistentFile() throws IOException {
+        try (LazyCSVDictionaryReader dictionaryReader = new LazyCSVDictionaryReader(CSVDictionaryReader.COMMA, 10)) {
+            // Act & Assert
+            assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> dictionaryReader.readFromFile("non/existent/path/to/file.csv"));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package backend.academy.hangman;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LetterPositionsTest {
+
+    private static List<Integer> positionsOf(LetterPositions letterPositions, char letter) {
+        int letterIndex = Alphabet.indexOf(letter);
+        List<Integer> positions = new ArrayList<>();
+        for (int i = letterPositions.start(letterIndex); i < letterPositions.end(letterIndex); ++i) {
+            positions.add(letterPositions.position(i));
+        }
+        return positions;
+    }
+
+    @Test
+    void indexRepeatedLettersTest() {
+        // Arrange & Act
+        LetterPositions letterPositions = new LetterPositions("Колокол-ёлка");
+
+        // Assert
+        assertThat(positionsOf(letterPositions, 'К')).containsExactly(0, 4, 10);
+        assertThat(positionsOf(letterPositions, 'О')).containsExactly(1, 3, 5);
+        assertThat(positionsOf(letterPositions, 'Л')).containsExactly(2, 6, 9);
+        assertThat(positionsOf(letterPositions, 'Ё')).containsExactly(8);
+        assertThat(positionsOf(letterPositions, 'А')).containsExactly(11);
+        assertThat(positionsOf(letterPositions, 'Я')).isEmpty();
+        assertThat(letterPositions.mask()).isEqualTo(Alphabet.maskOf("колёа"));
+    }
+
+    @Test
+    void rebuildForLongerWordTest() {
+        // Arrange
+        LetterPositions letterPositions = new LetterPositions("кот");
+
+        // Act
+        letterPositions.rebuild("абракадабра");
+
+        // Assert
+        assertThat(positionsOf(letterPositions, 'А')).containsExactly(0, 3, 5, 7, 10);
+        assertThat(positionsOf(letterPositions, 'К')).containsExactly(4);
+        assertThat(positionsOf(letterPositions, 'Т')).isEmpty();
+    }
+}
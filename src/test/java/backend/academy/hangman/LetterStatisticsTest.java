@@ -0,0 +1,82 @@
+package backend.academy.hangman;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LetterStatisticsTest {
+    private static final String DICTIONARY = """
+        Животные,кот,мурлычет
+        Животные,Ёж,колючий
+        Животные,кошка,мяукает
+        Фрукты,яблоко,красное
+        Other,cat,meow
+        """;
+
+    private CSVDictionaryReader dictionaryReader;
+
+    @BeforeEach
+    void setUp() {
+        dictionaryReader = new CSVDictionaryReader(CSVDictionaryReader.COMMA);
+        dictionaryReader.readFromInputStream(new ByteArrayInputStream(DICTIONARY.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void countsLettersWhileLoading() {
+        // Arrange
+        LetterStatistics statistics = dictionaryReader.getLetterStatistics();
+        int o = Alphabet.indexOf('О');
+        int k = Alphabet.indexOf('К');
+        int yo = Alphabet.indexOf('Ё');
+
+        // Act & Assert
+        assertThat(statistics.wordsCount()).isEqualTo(5);
+        assertThat(statistics.wordsCount("Животные")).isEqualTo(3);
+        assertThat(statistics.wordsCount("Non existent category")).isZero();
+        assertThat(statistics.letterCount("Животные", o)).isEqualTo(2);
+        assertThat(statistics.letterCount("Животные", k)).isEqualTo(3);
+        assertThat(statistics.wordsWithLetter("Животные", k)).isEqualTo(2);
+        assertThat(statistics.letterCount("Фрукты", o)).isEqualTo(2);
+        assertThat(statistics.wordsWithLetter("Фрукты", o)).isEqualTo(1);
+        assertThat(statistics.letterCount(o)).isEqualTo(4);
+        assertThat(statistics.wordsWithLetter(o)).isEqualTo(3);
+        assertThat(statistics.letterCount(yo)).isEqualTo(1);
+        assertThat(statistics.letterCounts("Other")).containsOnly(0);
+        assertThat(statistics.letterCounts("Non existent category")).isNull();
+        assertThat(statistics.letterCounts()).hasSize(Constants.ALPHABET_SIZE);
+    }
+
+    @Test
+    void tablesAreCopies() {
+        // Arrange
+        LetterStatistics statistics = dictionaryReader.getLetterStatistics();
+
+        // Act
+        statistics.letterCounts()[0] = 100;
+        statistics.wordsWithLetter("Животные")[0] = 100;
+
+        // Assert
+        assertThat(statistics.letterCount(0)).isNotEqualTo(100);
+        assertThat(statistics.wordsWithLetter("Животные", 0)).isNotEqualTo(100);
+    }
+
+    @Test
+    void sameStatisticsForEveryDictionary() {
+        // Arrange
+        LetterStatistics loaded = dictionaryReader.getLetterStatistics();
+        LetterStatistics scanned = LetterStatistics.of(dictionaryReader);
+        LetterStatistics snapshot = dictionaryReader.snapshot().getLetterStatistics();
+
+        // Act & Assert
+        for (LetterStatistics statistics : new LetterStatistics[] {scanned, snapshot}) {
+            assertThat(statistics.letterCounts()).isEqualTo(loaded.letterCounts());
+            assertThat(statistics.wordsWithLetter()).isEqualTo(loaded.wordsWithLetter());
+            for (String category : dictionaryReader.getCategories()) {
+                assertThat(statistics.letterCounts(category)).isEqualTo(loaded.letterCounts(category));
+                assertThat(statistics.wordsWithLetter(category)).isEqualTo(loaded.wordsWithLetter(category));
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package backend.academy.hangman;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class MappedCSVDictionaryReaderTest {
+
+    @Test
+    void readFromValidFile() throws IOException {
+        // Arrange
+        List<DictionaryWord> animals = List.of(
+            new DictionaryWord("Animals", "cat", "meow"),
+            new DictionaryWord("Animals", "dog", "bark"),
+            new DictionaryWord("Animals", "cow", "moo")
+        );
+
+        try (MappedCSVDictionaryReader dictionaryReader = new MappedCSVDictionaryReader(CSVDictionaryReader.COMMA)) {
+            // Act
+            dictionaryReader.readFromFile("src/test/resources/valid.csv");
+
+            // Assert
+            assertThat(dictionaryReader.getCategories()).containsExactly("Animals", "Fruits", "Techs");
+            assertThat(dictionaryReader.getWordsInCategory("Animals")).isEqualTo(animals);
+            assertThat(dictionaryReader.getWordsInCategory("Fruits"))
+                .containsExactly(new DictionaryWord("Fruits", "apple", "the red one"));
+            assertThat(dictionaryReader.getRandomWordInCategory("Animals")).isIn(animals);
+            assertThat(dictionaryReader.getWordsInCategory("Non existent category")).isNull();
+            assertThat(dictionaryReader.getRandomWordInCategory("Non existent category")).isNull();
+        }
+    }
+
+    @Test
+    void readFromEmptyAndInvalidFiles() throws IOException {
+        try (MappedCSVDictionaryReader dictionaryReader = new MappedCSVDictionaryReader(CSVDictionaryReader.COMMA)) {
+            // Act
+            dictionaryReader.readFromFile("src/test/resources/empty.csv");
+            dictionaryReader.readFromFile("src/test/resources/invalid.csv");
+
+            // Assert
+            assertThat(dictionaryReader.getCategories()).isEmpty();
+        }
+    }
+
+    @Test
+    void malformedRowsAreCountedLikeCSVDictionaryReader() {
+        // Arrange
+        String input = new StringBuilder()
+            .append("Animals,cat,meow\n")
+            .append("There,are,too,many,columns,here\n")
+            .append("\r\n")
+            .append("too,few\n")
+            .append("Animals,dog,bark,,\n")
+            .append(",,,\n")
+            .append("columns")
+            .toString();
+        CSVDictionaryReader csvReader = new CSVDictionaryReader(CSVDictionaryReader.COMMA);
+        csvReader.readFromInputStream(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+        LoadReport expected = csvReader.getLoadReport();
+
+        try (MappedCSVDictionaryReader dictionaryReader = new MappedCSVDictionaryReader(CSVDictionaryReader.COMMA)) {
+            // Act
+            dictionaryReader.readFromInputStream(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+            LoadReport loadReport = dictionaryReader.getLoadReport();
+
+            // Assert
+            assertThat(loadReport.rowsCount()).isEqualTo(expected.rowsCount()).isEqualTo(2);
+            for (LoadReport.ErrorKind kind : LoadReport.ErrorKind.values()) {
+                assertThat(loadReport.errorsCount(kind)).isEqualTo(expected.errorsCount(kind));
+            }
+            assertThat(loadReport.sampleLineNumbers())
+                .containsExactly(expected.sampleLineNumbers())
+                .containsExactly(2, 3, 4, 6, 7);
+        }
+    }
+
+    @Test
+    void readFromNonExistentFile() {
+        try (MappedCSVDictionaryReader dictionaryReader = new MappedCSVDictionaryReader(CSVDictionaryReader.COMMA)) {
+            // Act & Assert
+            assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> dictionaryReader.readFromFile("non/existent/path/to/file.csv"));
+        }
+    }
+
+    @Test
+    void sameRowsAsCSVDictionaryReader() {
+        // Arrange
+        String input = new StringBuilder()
+            .append("Цвета|красный|цвет крови\r\n")
+            .append("Цвета|синий|цвет неба||\n")
+            .append("Ягоды|вишня|тёмная\n")
+            .append("Цвета||пустое слово\n")
+            .append("|безымянная|пустая категория\n")
+            .append("Цвета|белый|\n")
+            .append("Цвета|белый|цвет|снега\n")
+            .append("|||\n")
+            .append("\n")
+            .append("Фрукты|груша|без перевода строки")
+            .toString();
+        DictionaryReader expected = new CSVDictionaryReader(CSVDictionaryReader.VERTICAL_BAR);
+        expected.readFromInputStream(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+
+        try (MappedCSVDictionaryReader dictionaryReader =
+                 new MappedCSVDictionaryReader(CSVDictionaryReader.VERTICAL_BAR)) {
+            // Act
+            dictionaryReader.readFromInputStream(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+
+            // Assert
+            assertThat(dictionaryReader.getCategories()).isEqualTo(expected.getCategories());
+            for (String category : expected.getCategories()) {
+                assertThat(dictionaryReader.getWordsInCategory(category))
+                    .isEqualTo(expected.getWordsInCategory(category));
+            }
+        }
+    }
+
+    @Test
+    void unsupportedSeparator() {
+        // Act & Assert
+        assertThatIllegalArgumentException().isThrownBy(() -> new MappedCSVDictionaryReader("\\s+"));
+    }
+
+    @Test
+    void parallelLoadKeepsFirstSeenOrder(@TempDir Path directory) throws IOException {
+        // Arrange
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 100_000; ++i) {
+            input.append("Категория").append(i * 7 % 13).append(",слово").append(i).append(",подсказка ").append(i);
+            input.append(i % 1000 == 0 ? "\r\n" : "\n");
+            if (i % 10_000 == 0) {
+                input.append("неверная строка\n");
+            }
+        }
+        Path path = directory.resolve("large.csv");
+        Files.writeString(path, input, StandardCharsets.UTF_8);
+
+        try (MappedCSVDictionaryReader sequential = new MappedCSVDictionaryReader(CSVDictionaryReader.COMMA);
+             MappedCSVDictionaryReader parallel = new MappedCSVDictionaryReader(CSVDictionaryReader.COMMA, 4)) {
+            // Act
+            sequential.readFromFile(path.toString());
+            parallel.readFromFile(path.toString());
+            LoadReport parallelReport = parallel.getLoadReport();
+            parallel.readFromFile("src/test/resources/valid.csv");
+
+            // Assert
+            assertThat(sequential.getCategories()).hasSize(13);
+            assertThat(parallel.getCategories())
+                .hasSize(16)
+                .startsWith(sequential.getCategories().toArray(String[]::new));
+            for (String category : sequential.getCategories()) {
+                assertThat(parallel.getWordsInCategory(category)).isEqualTo(sequential.getWordsInCategory(category));
+            }
+            assertThat(parallel.getWordsInCategory("Fruits"))
+                .containsExactly(new DictionaryWord("Fruits", "apple", "the red one"));
+            assertThat(parallelReport.rowsCount()).isEqualTo(100_000);
+            assertThat(parallelReport.errorsCount()).isEqualTo(10);
+            assertThat(parallelReport.sampleLineNumbers())
+                .containsExactly(sequential.getLoadReport().sampleLineNumbers())
+                .startsWith(2, 10_003);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package backend.academy.hangman;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class MultiFileDictionaryReaderTest {
+    @TempDir
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.writeString(directory.resolve("animals.csv"), "Animals,cat,meow\nAnimals,dog,bark\n");
+        Files.writeString(directory.resolve("fruits.csv"), "Fruits,apple,the red one\nAnimals,cat,purr\n");
+        Path techs = directory.resolve("techs.csv.gz");
+        try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(techs))) {
+            outputStream.write("Techs,pc,desktop\ninvalid\nAnimals,cow,moo\n".getBytes(StandardCharsets.UTF_8));
+        }
+        Files.createDirectory(directory.resolve("nested"));
+        Files.writeString(directory.resolve("nested/birds.csv"), "Birds,owl,hoot\n");
+    }
+
+    @Test
+    void readFromDirectory() throws IOException {
+        // Arrange
+        MultiFileDictionaryReader dictionaryReader = new MultiFileDictionaryReader(CSVDictionaryReader.COMMA);
+
+        // Act
+        dictionaryReader.readFromFile(directory.toString());
+
+        // Assert
+        assertThat(dictionaryReader.getCategories()).containsExactly("Animals", "Fruits", "Techs");
+        assertThat(dictionaryReader.getWordsInCategory("Animals")).containsExactly(
+            new DictionaryWord("Animals", "cat", "meow"),
+            new DictionaryWord("Animals", "dog", "bark"),
+            new DictionaryWord("Animals", "cow", "moo")
+        );
+        assertThat(dictionaryReader.getDuplicatesCount()).isEqualTo(1);
+        assertThat(dictionaryReader.getFileLoads())
+            .extracting(MultiFileDictionaryReader.FileLoad::path)
+            .containsExactly(directory.resolve("animals.csv"), directory.resolve("fruits.csv"),
+                directory.resolve("techs.csv.gz"));
+        assertThat(dictionaryReader.getFileLoads().get(2).rowsCount()).isEqualTo(2);
+        assertThat(dictionaryReader.getFileLoads().get(2).errorsCount()).isEqualTo(1);
+        assertThat(dictionaryReader.getFileLoads()).allMatch(fileLoad -> fileLoad.loadNanos() > 0);
+    }
+
+    @Test
+    void readFromGlob() throws IOException {
+        // Arrange
+        MultiFileDictionaryReader dictionaryReader = new MultiFileDictionaryReader(CSVDictionaryReader.COMMA);
+
+        // Act
+        dictionaryReader.readFromFile(directory + "/**.csv");
+
+        // Assert
+        assertThat(dictionaryReader.getCategories()).containsExactly("Animals", "Fruits", "Birds");
+        assertThat(dictionaryReader.getFileLoads()).hasSize(3);
+    }
+
+    @Test
+    void duplicatePolicies() throws IOException {
+        // Arrange
+        MultiFileDictionaryReader keepAll = new MultiFileDictionaryReader(CSVDictionaryReader.COMMA,
+            MultiFileDictionaryReader.DuplicatePolicy.KEEP_ALL);
+        MultiFileDictionaryReader keepLast = new MultiFileDictionaryReader(CSVDictionaryReader.COMMA,
+            MultiFileDictionaryReader.DuplicatePolicy.KEEP_LAST);
+
+        // Act
+        keepAll.readFromFile(directory + "/*.csv");
+        keepLast.readFromFile(directory + "/*.csv");
+
+        // Assert
+        assertThat(keepAll.getWordsInCategory("Animals")).containsExactly(
+            new DictionaryWord("Animals", "cat", "meow"),
+            new DictionaryWord("Animals", "dog", "bark"),
+            new DictionaryWord("Animals", "cat", "purr")
+        );
+        assertThat(keepAll.getDuplicatesCount()).isZero();
+        assertThat(keepLast.getWordsInCategory("Animals")).containsExactly(
+            new DictionaryWord("Animals", "cat", "purr"),
+            new DictionaryWord("Animals", "dog", "bark")
+        );
+        assertThat(keepLast.getDuplicatesCount()).isEqualTo(1);
+    }
+
+    @Test
+    void readsAccumulate() throws IOException {
+        // Arrange
+        MultiFileDictionaryReader dictionaryReader = new MultiFileDictionaryReader(CSVDictionaryReader.COMMA);
+
+        // Act
+        dictionaryReader.readFromFile(directory.resolve("nested/birds.csv").toString());
+        dictionaryReader.readFromInputStream(
+            new ByteArrayInputStream("Birds,owl,wise\nBirds,crow,caw\n".getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertThat(dictionaryReader.getCategories()).isEqualTo(List.of("Birds"));
+        assertThat(dictionaryReader.getWordsInCategory("Birds")).containsExactly(
+            new DictionaryWord("Birds", "owl", "hoot"),
+            new DictionaryWord("Birds", "crow", "caw")
+        );
+        assertThat(dictionaryReader.getRandomWordInCategory("Birds").category()).isEqualTo("Birds");
+        assertThat(dictionaryReader.getRandomWordInCategory("Non existent category")).isNull();
+        assertThat(dictionaryReader.getFileLoads()).hasSize(2);
+        assertThat(dictionaryReader.getFileLoads().get(1).path()).isNull();
+        assertThat(dictionaryReader.getFileLoads().get(1).rowsCount()).isEqualTo(2);
+        assertThat(dictionaryReader.getLetterStatistics().wordsCount("Birds")).isEqualTo(2);
+        DictionaryWord easyWord = dictionaryReader.getDifficultyIndex()
+            .getRandomWordForMaxMissesCount("Birds", Constants.EASY_MISSES_COUNT, ThreadLocalRandom.current());
+        assertThat(easyWord).isIn(dictionaryReader.getWordsInCategory("Birds"));
+    }
+
+    @Test
+    void missingSources() throws IOException {
+        // Arrange
+        MultiFileDictionaryReader dictionaryReader = new MultiFileDictionaryReader(CSVDictionaryReader.COMMA);
+
+        // Act
+        dictionaryReader.readFromFile(directory + "/*.txt");
+
+        // Assert
+        assertThat(dictionaryReader.getCategories()).isEmpty();
+        assertThatExceptionOfType(IOException.class)
+            .isThrownBy(() -> dictionaryReader.readFromFile(directory.resolve("missing.csv").toString()));
+        assertThatExceptionOfType(IOException.class)
+            .isThrownBy(() -> dictionaryReader.readFromFile(directory.resolve("missing") + "/*.csv"));
+    }
+}
@@ -0,0 +1,66 @@
+package backend.academy.hangman;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+public class ReloadingDictionaryReaderTest {
+    private static void replace(Path path, String content) throws IOException {
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.writeString(tmp, content, StandardCharsets.UTF_8);
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Test
+    void reloadsChangedFile(@TempDir Path directory) throws IOException {
+        // Arrange
+        Path path = directory.resolve("dictionary.csv");
+        replace(path, "Animals,cat,meow\nAnimals,dog,bark\n");
+
+        try (ReloadingDictionaryReader dictionaryReader = new ReloadingDictionaryReader(CSVDictionaryReader.COMMA)) {
+            dictionaryReader.readFromFile(path.toString());
+            List<DictionaryWord> before = dictionaryReader.getWordsInCategory("Animals");
+
+            // Act
+            replace(path, "Fruits,apple,the red one\nAnimals,cow,moo\n");
+
+            // Assert
+            await().atMost(Duration.ofSeconds(30))
+                .until(() -> dictionaryReader.getCategories().equals(List.of("Fruits", "Animals")));
+            assertThat(dictionaryReader.getReloadsCount()).isPositive();
+            assertThat(dictionaryReader.getRandomWordInCategory("Animals"))
+                .isEqualTo(new DictionaryWord("Animals", "cow", "moo"));
+            assertThat(before).containsExactly(
+                new DictionaryWord("Animals", "cat", "meow"),
+                new DictionaryWord("Animals", "dog", "bark")
+            );
+        }
+    }
+
+    @Test
+    void keepsDictionaryWhenFileIsRemoved(@TempDir Path directory) throws IOException {
+        // Arrange
+        Path path = directory.resolve("dictionary.csv");
+        replace(path, "Animals,cat,meow\n");
+
+        try (ReloadingDictionaryReader dictionaryReader = new ReloadingDictionaryReader(CSVDictionaryReader.COMMA)) {
+            dictionaryReader.readFromFile(path.toString());
+
+            // Act
+            Files.delete(path);
+            replace(directory.resolve("other.csv"), "Fruits,apple,the red one\n");
+
+            // Assert
+            assertThat(dictionaryReader.getCategories()).containsExactly("Animals");
+            assertThat(dictionaryReader.getRandomWordInCategory("Fruits")).isNull();
+        }
+    }
+}
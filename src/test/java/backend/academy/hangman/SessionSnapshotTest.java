@@ -0,0 +1,154 @@
+package backend.academy.hangman;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class SessionSnapshotTest {
+    private static final List<DictionaryWord> words = List.of(
+        new DictionaryWord("Животные", "кот", "мурлыкает"),
+        new DictionaryWord("Животные", "жираф", "самое высокое животное")
+    );
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void writeAndResumeLazilyTest() throws IOException {
+        // Arrange
+        Path path = tempDir.resolve("sessions.bin");
+        GameSessionManager manager = new GameSessionManager(new HangmanPool(4));
+        long cat = manager.createSession(words.get(0), 2);
+        long giraffe = manager.createSession(words.get(1), 3);
+        long ended = manager.createSession(words.get(0), 2);
+        manager.guessAll(cat, "ко");
+        manager.guessAll(giraffe, "жуф");
+        manager.endSession(ended);
+
+        // Act
+        SessionSnapshot.write(path, manager, words::indexOf);
+        GameSessionManager restarted = new GameSessionManager(new HangmanPool(4));
+        try (SessionSnapshot snapshot = SessionSnapshot.open(path)) {
+            restarted.resume(snapshot, words::get);
+
+            // Assert
+            assertThat(snapshot.getSessionsCount()).isEqualTo(2);
+            assertThat(restarted.getSessionsCount()).isZero();
+            assertThat(restarted.<String>query(giraffe, model -> model.getWordRepresentationView().toString()))
+                .isEqualTo("Ж___Ф");
+            assertThat(restarted.query(giraffe, Model::getMissesCount)).isEqualTo(1);
+            assertThat(restarted.getSessionsCount()).isEqualTo(1);
+            assertThat(restarted.guess(cat, 'т'))
+                .isSameAs(Status.of(Status.GuessStatus.CORRECT, Status.GameStatus.WIN));
+            assertThat(restarted.getStatus(ended)).isNull();
+            assertThat(restarted.createSession(words.get(0), 1)).isGreaterThan(ended);
+
+            assertThat(restarted.endSession(giraffe)).isTrue();
+            assertThat(restarted.getStatus(giraffe)).isNull();
+        }
+    }
+
+    @Test
+    void rewriteKeepsNotResumedSessionsTest() throws IOException {
+        // Arrange
+        Path path = tempDir.resolve("sessions.bin");
+        GameSessionManager manager = new GameSessionManager(new HangmanPool(2));
+        long first = manager.createSession(words.get(0), 2);
+        long second = manager.createSession(words.get(1), 2);
+        manager.guess(second, 'ж');
+        SessionSnapshot.write(path, manager, words::indexOf);
+
+        try (SessionSnapshot snapshot = SessionSnapshot.open(path)) {
+            GameSessionManager restarted = new GameSessionManager(new HangmanPool(2));
+            restarted.resume(snapshot, words::get);
+            restarted.guess(first, 'к');
+
+            // Act
+            SessionSnapshot.write(path, restarted, words::indexOf);
+        }
+
+        // Assert
+        try (SessionSnapshot snapshot = SessionSnapshot.open(path)) {
+            GameSessionManager restarted = new GameSessionManager(new HangmanPool(2));
+            restarted.resume(snapshot, words::get);
+            assertThat(snapshot.getSessionsCount()).isEqualTo(2);
+            assertThat(restarted.<String>query(first, model -> model.getHitsView().toString())).isEqualTo("К");
+            assertThat(restarted.<String>query(second, model -> model.getHitsView().toString())).isEqualTo("Ж");
+        }
+    }
+
+    @Test
+    void endResumedSessionWithoutLookupTest() throws IOException {
+        // Arrange
+        Path path = tempDir.resolve("sessions.bin");
+        GameSessionManager manager = new GameSessionManager(new HangmanPool(2));
+        long first = manager.createSession(words.get(0), 2);
+        long second = manager.createSession(words.get(1), 2);
+        SessionSnapshot.write(path, manager, words::indexOf);
+
+        try (SessionSnapshot snapshot = SessionSnapshot.open(path)) {
+            GameSessionManager restarted = new GameSessionManager(new HangmanPool(2));
+            restarted.resume(snapshot, words::get);
+
+            // Act
+            boolean ended = restarted.endSession(first);
+            boolean endedTwice = restarted.endSession(first);
+            SessionSnapshot.write(path, restarted, words::indexOf);
+
+            // Assert
+            assertThat(ended).isTrue();
+            assertThat(endedTwice).isFalse();
+            assertThat(restarted.getStatus(first)).isNull();
+            assertThat(restarted.getSessionsCount()).isZero();
+        }
+        try (SessionSnapshot snapshot = SessionSnapshot.open(path)) {
+            GameSessionManager restarted = new GameSessionManager(new HangmanPool(2));
+            restarted.resume(snapshot, words::get);
+            assertThat(snapshot.getSessionsCount()).isEqualTo(1);
+            assertThat(restarted.getStatus(first)).isNull();
+            assertThat(restarted.getStatus(second)).isNotNull();
+        }
+    }
+
+    @Test
+    void resumeSameSnapshotAfterSecondCrashTest() throws IOException {
+        // Arrange
+        Path path = tempDir.resolve("sessions.bin");
+        GameSessionManager manager = new GameSessionManager(new HangmanPool(2));
+        long cat = manager.createSession(words.get(0), 2);
+        manager.guess(cat, 'к');
+        SessionSnapshot.write(path, manager, words::indexOf);
+        byte[] written = Files.readAllBytes(path);
+
+        try (SessionSnapshot snapshot = SessionSnapshot.open(path)) {
+            GameSessionManager restarted = new GameSessionManager(new HangmanPool(2));
+            restarted.resume(snapshot, words::get);
+
+            // Act
+            restarted.guess(cat, 'о');
+        }
+
+        // Assert
+        assertThat(Files.readAllBytes(path)).isEqualTo(written);
+        try (SessionSnapshot snapshot = SessionSnapshot.open(path)) {
+            GameSessionManager restarted = new GameSessionManager(new HangmanPool(2));
+            restarted.resume(snapshot, words::get);
+            assertThat(restarted.<String>query(cat, model -> model.getHitsView().toString())).isEqualTo("К");
+        }
+    }
+
+    @Test
+    void openInvalidFileTest() throws IOException {
+        // Arrange
+        Path path = tempDir.resolve("garbage.bin");
+        Files.writeString(path, "not a snapshot");
+
+        // Act & Assert
+        assertThatExceptionOfType(IOException.class).isThrownBy(() -> SessionSnapshot.open(path));
+    }
+}
@@ -0,0 +1,115 @@
+package backend.academy.hangman;
+
+import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+public class StreamingDictionaryReaderTest {
+
+    @Test
+    void wordsAreVisibleWhileLoading() throws Exception {
+        // Arrange
+        StreamingDictionaryReader dictionaryReader = new StreamingDictionaryReader(CSVDictionaryReader.COMMA);
+        List<DictionaryWord> published = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> subscription = new CompletableFuture<>();
+        dictionaryReader.words().subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription flowSubscription) {
+                flowSubscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(DictionaryWord word) {
+                published.add(word);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                subscription.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                subscription.complete(null);
+            }
+        });
+        PipedOutputStream output = new PipedOutputStream();
+        PipedInputStream input = new PipedInputStream(output);
+        CompletableFuture<Void> reading =
+            CompletableFuture.runAsync(() -> dictionaryReader.readFromInputStream(input));
+
+        // Act
+        output.write("Animals,cat,meow\ninvalid\nFruits,apple,the red one\n".getBytes(StandardCharsets.UTF_8));
+        output.flush();
+        boolean fruitsReady = dictionaryReader.categoryReady("Fruits").get(10, TimeUnit.SECONDS);
+
+        // Assert: the stream is still open
+        assertThat(fruitsReady).isTrue();
+        assertThat(reading).isNotDone();
+        assertThat(dictionaryReader.getCategories()).containsExactly("Animals", "Fruits");
+        assertThat(dictionaryReader.getRandomWordInCategory("Animals"))
+            .isEqualTo(new DictionaryWord("Animals", "cat", "meow"));
+        CompletableFuture<Boolean> techsReady = dictionaryReader.categoryReady("Techs");
+        assertThat(techsReady).isNotDone();
+
+        // Act
+        output.write("Animals,dog,bark\n".getBytes(StandardCharsets.UTF_8));
+        output.close();
+        reading.get(10, TimeUnit.SECONDS);
+
+        // Assert
+        assertThat(dictionaryReader.getLoading()).isCompleted();
+        assertThat(techsReady.get(10, TimeUnit.SECONDS)).isFalse();
+        assertThat(dictionaryReader.categoryReady("Techs").get(10, TimeUnit.SECONDS)).isFalse();
+        assertThat(dictionaryReader.getWordsInCategory("Animals")).containsExactly(
+            new DictionaryWord("Animals", "cat", "meow"),
+            new DictionaryWord("Animals", "dog", "bark")
+        );
+        subscription.get(10, TimeUnit.SECONDS);
+        assertThat(published).hasSize(3);
+        assertThatIllegalStateException()
+            .isThrownBy(() -> dictionaryReader.readFromFile("src/test/resources/valid.csv"));
+    }
+
+    @Test
+    void readFromFile() throws IOException {
+        // Arrange
+        CSVDictionaryReader expected = new CSVDictionaryReader(CSVDictionaryReader.VERTICAL_BAR);
+        expected.readFromFile("src/main/resources/dictionary.csv");
+        StreamingDictionaryReader dictionaryReader = new StreamingDictionaryReader(CSVDictionaryReader.VERTICAL_BAR);
+
+        // Act
+        dictionaryReader.readFromFile("src/main/resources/dictionary.csv");
+
+        // Assert
+        assertThat(dictionaryReader.getCategories()).isEqualTo(expected.getCategories());
+        for (String category : expected.getCategories()) {
+            assertThat(dictionaryReader.getWordsInCategory(category))
+                .isEqualTo(expected.getWordsInCategory(category));
+        }
+        assertThat(dictionaryReader.getWordsInCategory("Non existent category")).isNull();
+        assertThat(dictionaryReader.getLetterStatistics().wordsCount())
+            .isEqualTo(expected.getLetterStatistics().wordsCount());
+    }
+
+    @Test
+    void readFromNonExistentFile() {
+        // Arrange
+        StreamingDictionaryReader dictionaryReader = new StreamingDictionaryReader(CSVDictionaryReader.COMMA);
+
+        // Act & Assert
+        assertThatExceptionOfType(IOException.class)
+            .isThrownBy(() -> dictionaryReader.loadAsync("non/existent/path/to/file.csv"));
+        assertThat(dictionaryReader.getCategories()).isEmpty();
+    }
+}
@@ -0,0 +1,77 @@
+package backend.academy.hangman;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class WordIndexTest {
+    private final RandomGenerator random = RandomGenerator.of("L64X128MixRandom");
+    private DictionaryReader dictionaryReader;
+    private WordIndex wordIndex;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dictionaryReader = new CSVDictionaryReader(CSVDictionaryReader.COMMA);
+        dictionaryReader.readFromFile("src/test/resources/valid.csv");
+        wordIndex = WordIndex.of(dictionaryReader);
+    }
+
+    @Test
+    void sameWordsAsReader() {
+        // Assert
+        assertThat(wordIndex.getCategories()).isEqualTo(dictionaryReader.getCategories());
+        assertThat(wordIndex.size()).isEqualTo(6);
+        for (String category : dictionaryReader.getCategories()) {
+            assertThat(wordIndex.getWordsInCategory(category)).isEqualTo(dictionaryReader.getWordsInCategory(category));
+        }
+        assertThat(wordIndex.getWordsInCategory("Non existent category")).isNull();
+    }
+
+    @Test
+    void wordIds() {
+        // Act & Assert
+        for (int i = 0; i < wordIndex.size(); ++i) {
+            assertThat(wordIndex.wordId(wordIndex.word(i))).isEqualTo(i);
+        }
+        assertThat(wordIndex.wordId(new DictionaryWord("Animals", "cat", "purr"))).isEqualTo(-1);
+    }
+
+    @Test
+    void randomPicks() {
+        // Arrange
+        List<DictionaryWord> animals = dictionaryReader.getWordsInCategory("Animals");
+        int fruitsByWord = 0;
+        int fruitsByCategory = 0;
+
+        // Act
+        for (int i = 0; i < 30_000; ++i) {
+            assertThat(wordIndex.randomWordInCategory("Animals", random)).isIn(animals);
+            if ("Fruits".equals(wordIndex.randomWord(random).category())) {
+                fruitsByWord++;
+            }
+            if ("Fruits".equals(wordIndex.randomWordInRandomCategory(random).category())) {
+                fruitsByCategory++;
+            }
+        }
+
+        // Assert: Fruits is 1 of 6 words and 1 of 3 categories
+        assertThat(fruitsByWord / 30_000.0).isCloseTo(1 / 6.0, within(0.02));
+        assertThat(fruitsByCategory / 30_000.0).isCloseTo(1 / 3.0, within(0.02));
+        assertThat(wordIndex.randomWordInCategory("Non existent category", random)).isNull();
+    }
+
+    @Test
+    void emptyIndex() {
+        // Act
+        WordIndex empty = WordIndex.of(new CSVDictionaryReader(CSVDictionaryReader.COMMA));
+
+        // Assert
+        assertThat(empty.size()).isZero();
+        assertThat(empty.randomWord(random)).isNull();
+        assertThat(empty.randomWordInRandomCategory(random)).isNull();
+    }
+}
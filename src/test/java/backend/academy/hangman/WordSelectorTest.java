@@ -0,0 +1,123 @@
+package backend.academy.hangman;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+
+public class WordSelectorTest {
+    private static List<Integer> selectMany(WordSelector wordSelector, int wordsCount, int callsCount) {
+        List<Integer> indices = new ArrayList<>();
+        for (int i = 0; i < callsCount; ++i) {
+            indices.add(wordSelector.select("Animals", wordsCount));
+        }
+        return indices;
+    }
+
+    @Test
+    void threadLocalSelectsInRange() {
+        // Act
+        List<Integer> indices = selectMany(new ThreadLocalWordSelector(), 3, 1000);
+
+        // Assert
+        assertThat(indices).allMatch(index -> index >= 0 && index < 3).contains(0, 1, 2);
+    }
+
+    @Nested
+    class Seeded {
+        @Test
+        void sameSeedSameSequence() {
+            // Act
+            List<Integer> first = selectMany(new SeededWordSelector(42), 1000, 100);
+            List<Integer> second = selectMany(new SeededWordSelector(42), 1000, 100);
+            List<Integer> other = selectMany(new SeededWordSelector(43), 1000, 100);
+
+            // Assert
+            assertThat(first).isEqualTo(second).isNotEqualTo(other).allMatch(index -> index >= 0 && index < 1000);
+        }
+
+        @Test
+        void reproducibleReader() {
+            // Arrange
+            DictionaryReader first =
+                new CSVDictionaryReader(CSVDictionaryReader.VERTICAL_BAR, new SeededWordSelector(7));
+            DictionaryReader second =
+                new CSVDictionaryReader(CSVDictionaryReader.VERTICAL_BAR, new SeededWordSelector(7));
+            List<DictionaryWord> firstWords = new ArrayList<>();
+            List<DictionaryWord> secondWords = new ArrayList<>();
+
+            // Act
+            first.readFromInputStream(getClass().getResourceAsStream("/dictionary.csv"));
+            second.readFromInputStream(getClass().getResourceAsStream("/dictionary.csv"));
+            for (int i = 0; i < 20; ++i) {
+                String category = first.getCategories().get(i % first.getCategories().size());
+                firstWords.add(first.getRandomWordInCategory(category));
+                secondWords.add(second.getRandomWordInCategory(category));
+            }
+
+            // Assert
+            assertThat(firstWords).isEqualTo(secondWords).doesNotContainNull();
+        }
+    }
+
+    @Nested
+    class Weighted {
+        private final DictionaryReader dictionaryReader = new CSVDictionaryReader(CSVDictionaryReader.COMMA);
+
+        Weighted() throws Exception {
+            dictionaryReader.readFromFile("src/test/resources/valid.csv");
+        }
+
+        @Test
+        void selectsProportionallyToWeight() {
+            // Arrange: cat, dog, cow weighted 1, 0, 3
+            WordSelector wordSelector = new WeightedWordSelector(dictionaryReader,
+                word -> switch (word.word()) {
+                    case "cat" -> 1;
+                    case "cow" -> 3;
+                    default -> 0;
+                });
+
+            // Act
+            List<Integer> indices = selectMany(wordSelector, 3, 40_000);
+
+            // Assert
+            assertThat(indices).doesNotContain(1);
+            assertThat(indices.stream().filter(index -> index == 0).count() / 40_000.0).isCloseTo(0.25, within(0.02));
+        }
+
+        @Test
+        void selectsByGivenWeights() {
+            // Arrange
+            WordSelector wordSelector = new WeightedWordSelector(Map.of("Animals", new double[] {0, 0, 2}));
+
+            // Act
+            List<Integer> indices = selectMany(wordSelector, 3, 1000);
+
+            // Assert
+            assertThat(indices).containsOnly(2);
+            assertThat(wordSelector.select("Fruits", 1)).isZero();
+        }
+
+        @Test
+        void uniformForUnknownOrChangedCategory() {
+            // Arrange
+            WordSelector wordSelector = new WeightedWordSelector(dictionaryReader, word -> 1);
+
+            // Act & Assert
+            assertThat(wordSelector.select("Non existent category", 5)).isBetween(0, 4);
+            assertThat(selectMany(wordSelector, 5, 1000)).contains(3, 4);
+        }
+
+        @Test
+        void negativeWeight() {
+            // Act & Assert
+            assertThatIllegalArgumentException()
+                .isThrownBy(() -> new WeightedWordSelector(dictionaryReader, word -> -1));
+        }
+    }
+}